@@ -9,12 +9,47 @@ repositories {
     mavenCentral()
 }
 
+sourceSets {
+    create("jmh") {
+        compileClasspath += sourceSets.main.get().output
+        runtimeClasspath += sourceSets.main.get().output
+    }
+}
+
+configurations {
+    named("jmhImplementation") { extendsFrom(configurations.implementation.get()) }
+    named("jmhRuntimeOnly") { extendsFrom(configurations.runtimeOnly.get()) }
+}
+
 dependencies {
     implementation("org.apache.commons:commons-text:1.10.0")
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
-    useJUnitPlatform()
-}
\ No newline at end of file
+    useJUnitPlatform {
+        excludeTags("timing")
+    }
+}
+
+// Runs the tests asserting on wall-clock time, kept out of the default test task: ./gradlew timingTest
+tasks.register<Test>("timingTest") {
+    group = "verification"
+    description = "Runs the wall-clock complexity tests."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("timing")
+    }
+}
+
+// Runs the benchmarks of src/jmh and prints the report: ./gradlew jmh --args="[sizes...]"
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH parse benchmarks."
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("com.vijie.bench.BenchmarkReport")
+}
@@ -0,0 +1,55 @@
+package com.vijie.bench;
+
+import com.vijie.core.Root;
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+
+/**
+ * A Root parsing its whole input with a single target parser.
+ *
+ * @param <V> the type of the value of the target
+ * @param <T> the type of the target token
+ */
+public class BenchRoot<V, T extends IToken<V>> extends Root<V> {
+
+    /** The target parser. */
+    private final IParser<T> target;
+
+    /**
+     * Constructs a Root over a raw string.
+     *
+     * @param raw    the input
+     * @param target the target parser
+     */
+    public BenchRoot(String raw, IParser<T> target) {
+        super(raw);
+        this.target = target;
+    }
+
+    /**
+     * Returns the parsed token.
+     *
+     * @return the token of the target
+     */
+    @SuppressWarnings("unchecked")
+    public T getToken() {
+        return (T) this.sequence.getContent()[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getValue() {
+        return this.getToken().getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void parse() throws BaseParseError {
+        this.sequence.parse(this, this.target);
+    }
+}
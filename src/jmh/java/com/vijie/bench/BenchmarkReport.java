@@ -0,0 +1,104 @@
+package com.vijie.bench;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the parse benchmarks with the GC profiler and prints, for each benchmark and input
+ * size, the throughput in characters per second, the allocation per character and the
+ * latency percentiles of a parse.
+ * <p>
+ * Usage: {@code BenchmarkReport [size...]}, the sizes defaulting to the ones declared by
+ * the benchmarks.
+ */
+public final class BenchmarkReport {
+
+    /** The secondary result of the GC profiler holding the bytes allocated per operation. */
+    private static final String ALLOCATION = "gc.alloc.rate.norm";
+
+    /**
+     * The figures of a benchmark at a given size, filled from its runs in both modes.
+     */
+    private static final class Row {
+        String benchmark;
+        long size;
+        double charsPerSecond = Double.NaN;
+        double bytesPerChar = Double.NaN;
+        double p50 = Double.NaN;
+        double p90 = Double.NaN;
+        double p99 = Double.NaN;
+    }
+
+    private BenchmarkReport() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .include(BenchmarkReport.class.getPackageName() + ".*Benchmark")
+                .addProfiler(GCProfiler.class);
+
+        if (args.length > 0) options.param("size", args);
+
+        Collection<RunResult> results = new Runner(options.build()).run();
+        Map<String, Row> rows = new TreeMap<>();
+
+        for (RunResult result : results) {
+
+            BenchmarkParams params = result.getParams();
+            long size = Long.parseLong(params.getParam("size"));
+            String name = "%s:%012d".formatted(params.getBenchmark(), size);
+            Row row = rows.computeIfAbsent(name, key -> new Row());
+            row.benchmark = params.getBenchmark().substring(BenchmarkReport.class.getPackageName().length() + 1);
+            row.size = size;
+            Result<?> primary = result.getPrimaryResult();
+
+            if (params.getMode() == Mode.Throughput) {
+                row.charsPerSecond = primary.getScore() * toSeconds(primary.getScoreUnit()) * size;
+                Result<?> allocation = result.getSecondaryResults().get(ALLOCATION);
+                if (allocation != null) row.bytesPerChar = allocation.getScore() / size;
+            } else if (params.getMode() == Mode.SampleTime) {
+                Statistics statistics = primary.getStatistics();
+                row.p50 = statistics.getPercentile(50);
+                row.p90 = statistics.getPercentile(90);
+                row.p99 = statistics.getPercentile(99);
+            }
+        }
+
+        System.out.printf("%n%-40s %12s %14s %10s %12s %12s %12s%n",
+                "Benchmark", "size", "chars/s", "B/char", "p50 (ms)", "p90 (ms)", "p99 (ms)");
+
+        for (Row row : rows.values()) {
+            System.out.printf("%-40s %12d %14.0f %10.1f %12.3f %12.3f %12.3f%n",
+                    row.benchmark, row.size, row.charsPerSecond, row.bytesPerChar, row.p50, row.p90, row.p99);
+        }
+    }
+
+    /**
+     * Returns the factor converting a score per time unit into a score per second.
+     *
+     * @param unit the unit of the score, such as {@code ops/ms}
+     * @return the number of time units in a second
+     */
+    private static double toSeconds(String unit) {
+        return switch (unit.substring(unit.indexOf('/') + 1)) {
+            case "ns" -> 1e9;
+            case "us" -> 1e6;
+            case "ms" -> 1e3;
+            case "min" -> 1 / 60.0;
+            default -> 1;
+        };
+    }
+}
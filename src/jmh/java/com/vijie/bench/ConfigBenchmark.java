@@ -0,0 +1,57 @@
+package com.vijie.bench;
+
+import com.vijie.bench.grammar.Document;
+import com.vijie.core.errors.BaseParseError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parses configuration documents (see {@link Document}) of increasing size through a Root.
+ * <p>
+ * A single invocation parses the whole input, so the throughput in characters per second
+ * is the score in operations per second times {@link #size}; {@link BenchmarkReport}
+ * prints it with the allocation per character and the latency percentiles.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "-Xss64m", "-Xmx8g"})
+public class ConfigBenchmark {
+
+    /**
+     * The length of the input, in characters.
+     */
+    @Param({"1024", "102400", "10485760", "104857600"})
+    public int size;
+
+    /**
+     * The input.
+     */
+    private String input;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.input = Inputs.config(this.size);
+    }
+
+    @Benchmark
+    public Document parse() throws BaseParseError {
+        BenchRoot<?, Document> root = new BenchRoot<>(this.input, Document.parser());
+        root.parse();
+        return root.getToken();
+    }
+}
@@ -0,0 +1,65 @@
+package com.vijie.bench;
+
+import com.vijie.bench.grammar.Keyword;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates the inputs of the benchmarks.
+ * The inputs are deterministic, so that the numbers of two runs can be compared.
+ */
+public final class Inputs {
+
+    /** The seed of the generated inputs. */
+    private static final long SEED = 0x5EED_1E5L;
+
+    /** The characters of the generated quoted strings, escape sequences included. */
+    private static final String[] CHARS = {"a", "e", "i", "o", "u", "r", "s", "t", "n", "l", " ", ".", "/", "0", "7", "\\\"", "\\n"};
+
+    private Inputs() {
+    }
+
+    /**
+     * Generates a configuration document of about the given length, one entry per line.
+     * The values are evenly spread between numbers, keywords and quoted strings.
+     *
+     * @param length the length of the document, in characters
+     * @return the document
+     */
+    public static String config(int length) {
+
+        SplittableRandom random = new SplittableRandom(SEED);
+        StringBuilder builder = new StringBuilder(length + 64);
+
+        while (builder.length() < length) {
+
+            word(builder, random, 3 + random.nextInt(10));
+            builder.append(random.nextBoolean() ? " = " : "=");
+
+            switch (random.nextInt(3)) {
+                case 0 -> builder.append(random.nextInt(1_000_000));
+                case 1 -> builder.append(Keyword.MEMBERS[random.nextInt(Keyword.MEMBERS.length)]);
+                default -> {
+                    builder.append('"');
+                    for (int i = random.nextInt(40); i > 0; i--) builder.append(CHARS[random.nextInt(CHARS.length)]);
+                    builder.append('"');
+                }
+            }
+
+            builder.append(";\n");
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Appends a random lowercase word.
+     *
+     * @param builder the builder to append to
+     * @param random  the random generator
+     * @param length  the length of the word
+     */
+    private static void word(StringBuilder builder, SplittableRandom random, int length) {
+        for (int i = 0; i < length; i++) builder.append((char) ('a' + random.nextInt(26)));
+    }
+}
@@ -0,0 +1,53 @@
+package com.vijie.bench.grammar;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.Array;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A configuration document: a list of entries, one per line.
+ * <pre>
+ * name = "vijie";
+ * enabled = true;
+ * retries = 3;
+ * </pre>
+ */
+public class Document extends Array<Map<String, String>, Entry> {
+
+    /**
+     * Creates a factory for the Document class.
+     *
+     * @return a Factory instance for Document
+     */
+    public static Factory<Document> parser() {
+        return Factory.of(Document.class);
+    }
+
+    /**
+     * Constructs a Document node.
+     *
+     * @param parent   the parent composite node
+     * @param sequence the sequence to parse
+     */
+    public Document(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, Entry.parser());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, String> getValue() {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (IToken<?> token : this.getContent()) {
+            Entry entry = (Entry) token;
+            entries.put(entry.getKey(), entry.getValue());
+        }
+        return entries;
+    }
+}
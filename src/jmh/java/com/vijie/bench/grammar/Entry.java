@@ -0,0 +1,71 @@
+package com.vijie.bench.grammar;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.Chain;
+import com.vijie.core.tokens.StringLiteral;
+import com.vijie.core.tokens.Trim;
+import com.vijie.core.tokens.Trimmed;
+import com.vijie.core.tokens.Word;
+
+/**
+ * A configuration entry: a key, an equal sign, a value and a semicolon, followed by the
+ * end of its line.
+ */
+public class Entry extends Chain<String, IToken<?>> {
+
+    /**
+     * Creates a factory for the Entry class.
+     *
+     * @return a Factory instance for Entry
+     */
+    public static Factory<Entry> parser() {
+        return Factory.of(Entry.class);
+    }
+
+    /**
+     * Constructs the chain of parsers of an entry.
+     *
+     * @return an array of parsers for an entry
+     */
+    @SuppressWarnings("unchecked")
+    private static IParser<? extends IToken<?>>[] constructChain() {
+        return new IParser[]{
+                Trim.parser(Word.parser(), " \t", " \t"),
+                StringLiteral.parser("="),
+                Trim.parser(Value.parser(), " \t", " \t"),
+                StringLiteral.parser(";"),
+                Trimmed.parser(" \t\r\n")
+        };
+    }
+
+    /**
+     * Constructs an Entry node.
+     *
+     * @param parent   the parent composite node
+     * @param sequence the sequence to parse
+     */
+    public Entry(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, constructChain());
+    }
+
+    /**
+     * Returns the key of the entry.
+     *
+     * @return the key
+     */
+    public String getKey() {
+        return (String) this.getTokens()[0].getValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getValue() {
+        return (String) this.getTokens()[2].getValue();
+    }
+}
@@ -0,0 +1,34 @@
+package com.vijie.bench.grammar;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.StringEnum;
+
+/**
+ * A keyword value: {@code true}, {@code false} or {@code null}.
+ */
+public class Keyword extends StringEnum {
+
+    /** The keywords. */
+    public static final String[] MEMBERS = {"true", "false", "null"};
+
+    /**
+     * Creates a factory for the Keyword class.
+     *
+     * @return a Factory instance for Keyword
+     */
+    public static Factory<Keyword> parser() {
+        return Factory.of(Keyword.class);
+    }
+
+    /**
+     * Constructs a Keyword node.
+     *
+     * @param parent   the parent composite node
+     * @param sequence the sequence to parse
+     */
+    public Keyword(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, MEMBERS);
+    }
+}
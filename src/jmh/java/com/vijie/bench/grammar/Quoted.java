@@ -0,0 +1,58 @@
+package com.vijie.bench.grammar;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.parsers.Optional;
+import com.vijie.core.tokens.Chain;
+import com.vijie.core.tokens.StringLiteral;
+
+/**
+ * A quoted string value, whose characters may be escaped.
+ */
+public class Quoted extends Chain<String, IToken<?>> {
+
+    /**
+     * Creates a factory for the Quoted class.
+     *
+     * @return a Factory instance for Quoted
+     */
+    public static Factory<Quoted> parser() {
+        return Factory.of(Quoted.class);
+    }
+
+    /**
+     * Constructs the chain of parsers of a quoted string.
+     *
+     * @return an array of parsers for a quoted string
+     */
+    @SuppressWarnings("unchecked")
+    private static IParser<? extends IToken<?>>[] constructChain() {
+        return new IParser[]{
+                StringLiteral.parser("\""),
+                new Optional<>(QuotedText.parser()),
+                StringLiteral.parser("\"")
+        };
+    }
+
+    /**
+     * Constructs a Quoted node.
+     *
+     * @param parent   the parent composite node
+     * @param sequence the sequence to parse
+     */
+    public Quoted(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, constructChain());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getValue() {
+        IToken<?>[] tokens = this.getTokens();
+        return (tokens.length == 3) ? (String) tokens[1].getValue() : "";
+    }
+}
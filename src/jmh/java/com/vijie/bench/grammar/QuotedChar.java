@@ -0,0 +1,57 @@
+package com.vijie.bench.grammar;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.DefinedChar;
+import com.vijie.core.tokens.SpecialChar;
+import com.vijie.core.tokens.Union;
+
+/**
+ * A character of a quoted string: an escape sequence or a plain character.
+ */
+public class QuotedChar extends Union<Character, IToken<Character>> {
+
+    /** The characters that can follow a backslash. */
+    public static final String ESCAPED = "\"\\nt";
+
+    /** The characters allowed unescaped. */
+    public static final String PLAIN = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .,:/-_";
+
+    /**
+     * Creates a factory for the QuotedChar class.
+     *
+     * @return a Factory instance for QuotedChar
+     */
+    public static Factory<QuotedChar> parser() {
+        return Factory.of(QuotedChar.class);
+    }
+
+    /**
+     * Constructs the alternatives of a quoted character.
+     *
+     * @return an array of parsers for a quoted character
+     */
+    @SuppressWarnings("unchecked")
+    private static IParser<? extends IToken<Character>>[] constructTargets() {
+        return new IParser[]{
+                SpecialChar.parser(ESCAPED),
+                DefinedChar.parser(PLAIN)
+        };
+    }
+
+    /** The alternatives of a quoted character, shared by every QuotedChar so that they share their table. */
+    private static final IParser<? extends IToken<Character>>[] TARGETS = constructTargets();
+
+    /**
+     * Constructs a QuotedChar node.
+     *
+     * @param parent   the parent composite node
+     * @param sequence the sequence to parse
+     */
+    public QuotedChar(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, TARGETS);
+    }
+}
@@ -0,0 +1,42 @@
+package com.vijie.bench.grammar;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.Array;
+
+/**
+ * The characters of a quoted string.
+ */
+public class QuotedText extends Array<String, QuotedChar> {
+
+    /**
+     * Creates a factory for the QuotedText class.
+     *
+     * @return a Factory instance for QuotedText
+     */
+    public static Factory<QuotedText> parser() {
+        return Factory.of(QuotedText.class);
+    }
+
+    /**
+     * Constructs a QuotedText node.
+     *
+     * @param parent   the parent composite node
+     * @param sequence the sequence to parse
+     */
+    public QuotedText(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, QuotedChar.parser());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getValue() {
+        StringBuilder builder = new StringBuilder();
+        for (IToken<?> token : this.getContent()) builder.append(token.getValue());
+        return builder.toString();
+    }
+}
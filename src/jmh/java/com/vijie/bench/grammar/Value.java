@@ -0,0 +1,51 @@
+package com.vijie.bench.grammar;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.Numeric;
+import com.vijie.core.tokens.Union;
+
+/**
+ * The value of a configuration entry: a number, a keyword or a quoted string.
+ */
+public class Value extends Union<String, IToken<String>> {
+
+    /**
+     * Creates a factory for the Value class.
+     *
+     * @return a Factory instance for Value
+     */
+    public static Factory<Value> parser() {
+        return Factory.of(Value.class);
+    }
+
+    /**
+     * Constructs the alternatives of a value.
+     *
+     * @return an array of parsers for a value
+     */
+    @SuppressWarnings("unchecked")
+    private static IParser<? extends IToken<String>>[] constructTargets() {
+        return new IParser[]{
+                Numeric.parser(),
+                Keyword.parser(),
+                Quoted.parser()
+        };
+    }
+
+    /** The alternatives of a value, shared by every Value so that they share their table. */
+    private static final IParser<? extends IToken<String>>[] TARGETS = constructTargets();
+
+    /**
+     * Constructs a Value node.
+     *
+     * @param parent   the parent composite node
+     * @param sequence the sequence to parse
+     */
+    public Value(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, TARGETS);
+    }
+}
@@ -0,0 +1,322 @@
+package com.vijie.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An immutable set of characters.
+ * <p>
+ * The characters of the Basic Multilingual Plane are held in a bitset, sized up to the
+ * highest character of the class; supplementary code points are held as sorted ranges.
+ * Checking a character is a constant-time, allocation-free operation, so a class is meant
+ * to be built once and shared, e.g. as a constant of a token type.
+ */
+public final class CharClass {
+
+    /**
+     * The highest character of the Basic Multilingual Plane.
+     */
+    private static final int BMP_MAX = 0xFFFF;
+
+    /**
+     * The number of words of a bitset covering the whole Basic Multilingual Plane.
+     */
+    private static final int BMP_WORDS = (BMP_MAX + 1) >>> 6;
+
+    /**
+     * The class without any character.
+     */
+    public static final CharClass EMPTY = new CharClass(new long[0], new int[0]);
+
+    /**
+     * The class of every code point.
+     */
+    public static final CharClass ALL = EMPTY.negate();
+
+    /**
+     * The classes already built from a string of characters. The strings are weakly held,
+     * so that the classes of a grammar built at runtime are released with it.
+     */
+    private static final Map<String, CharClass> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns the class of the characters of a string.
+     * Like the atoms of a sequence, the characters are UTF-16 code units: a supplementary
+     * code point adds its two surrogates. Classes built from the same string are shared
+     * while the string is in use.
+     *
+     * @param chars the characters of the class
+     * @return the class of the characters
+     */
+    public static CharClass of(String chars) {
+        return CACHE.computeIfAbsent(chars, CharClass::build);
+    }
+
+    /**
+     * Builds the class of the characters of a string.
+     *
+     * @param chars the characters of the class
+     * @return the class of the characters
+     */
+    private static CharClass build(String chars) {
+        return chars.chars().mapToObj(c -> CharClass.range(c, c)).reduce(EMPTY, CharClass::union);
+    }
+
+    /**
+     * Returns the class of a range of code points.
+     *
+     * @param first the first code point of the range
+     * @param last  the last code point of the range (inclusive)
+     * @return the class of the range
+     * @throws IllegalArgumentException if the range is empty or outside the valid code points
+     */
+    public static CharClass range(int first, int last) {
+
+        if (first < 0 || last > Character.MAX_CODE_POINT || first > last) {
+            throw new IllegalArgumentException("Invalid range: %d-%d".formatted(first, last));
+        }
+
+        long[] bits = new long[0];
+        int[] ranges = new int[0];
+
+        if (first <= BMP_MAX) {
+            int end = Math.min(last, BMP_MAX);
+            bits = new long[(end >>> 6) + 1];
+            for (int c = first; c <= end; c++) bits[c >>> 6] |= 1L << c;
+        }
+
+        if (last > BMP_MAX) ranges = new int[] {Math.max(first, BMP_MAX + 1), last};
+
+        return new CharClass(bits, ranges);
+    }
+
+    /**
+     * The bitset of the characters of the Basic Multilingual Plane, without trailing empty words.
+     */
+    private final long[] bits;
+
+    /**
+     * The supplementary code points, as sorted and disjoint pairs of first and last code points.
+     */
+    private final int[] ranges;
+
+    /**
+     * The string representation of the class, built on the first request.
+     */
+    private String string;
+
+    /**
+     * Constructs a class from its bitset and ranges.
+     *
+     * @param bits   the bitset of the Basic Multilingual Plane
+     * @param ranges the ranges of supplementary code points
+     */
+    private CharClass(long[] bits, int[] ranges) {
+        int length = bits.length;
+        while (length > 0 && bits[length - 1] == 0) length--;
+        this.bits = (length == bits.length) ? bits : Arrays.copyOf(bits, length);
+        this.ranges = ranges;
+    }
+
+    /**
+     * Checks if the class contains a character.
+     *
+     * @param codePoint the character
+     * @return true if the character is in the class, false otherwise
+     */
+    public boolean contains(int codePoint) {
+
+        if (codePoint < 0) return false;
+
+        if (codePoint <= BMP_MAX) {
+            int word = codePoint >>> 6;
+            return word < this.bits.length && (this.bits[word] & (1L << codePoint)) != 0;
+        }
+
+        int low = 0;
+        int high = (this.ranges.length >>> 1) - 1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (codePoint < this.ranges[2 * middle]) high = middle - 1;
+            else if (codePoint > this.ranges[2 * middle + 1]) low = middle + 1;
+            else return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the class has no character.
+     *
+     * @return true if the class is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return this.bits.length == 0 && this.ranges.length == 0;
+    }
+
+    /**
+     * Returns the class of the characters in this class or in another.
+     *
+     * @param other the other class
+     * @return the union of the classes
+     */
+    public CharClass union(CharClass other) {
+
+        long[] bits = Arrays.copyOf(this.bits, Math.max(this.bits.length, other.bits.length));
+        for (int i = 0; i < other.bits.length; i++) bits[i] |= other.bits[i];
+
+        int[] merged = new int[this.ranges.length + other.ranges.length];
+        int[] ranges = new int[merged.length];
+        int count = 0;
+
+        for (int i = 0, j = 0, k = 0; k < merged.length; k += 2) {
+            int[] source = (j >= other.ranges.length || (i < this.ranges.length && this.ranges[i] <= other.ranges[j])) ? this.ranges : other.ranges;
+            int index = (source == this.ranges) ? i : j;
+            merged[k] = source[index];
+            merged[k + 1] = source[index + 1];
+            if (source == this.ranges) i += 2;
+            else j += 2;
+        }
+
+        for (int k = 0; k < merged.length; k += 2) {
+            if (count > 0 && merged[k] <= ranges[count - 1] + 1) {
+                ranges[count - 1] = Math.max(ranges[count - 1], merged[k + 1]);
+            } else {
+                ranges[count++] = merged[k];
+                ranges[count++] = merged[k + 1];
+            }
+        }
+
+        return new CharClass(bits, Arrays.copyOf(ranges, count));
+    }
+
+    /**
+     * Returns the class of the characters in both this class and another.
+     *
+     * @param other the other class
+     * @return the intersection of the classes
+     */
+    public CharClass intersection(CharClass other) {
+
+        long[] bits = Arrays.copyOf(this.bits, Math.min(this.bits.length, other.bits.length));
+        for (int i = 0; i < bits.length; i++) bits[i] &= other.bits[i];
+
+        int[] ranges = new int[this.ranges.length + other.ranges.length];
+        int count = 0;
+
+        for (int i = 0, j = 0; i < this.ranges.length && j < other.ranges.length; ) {
+            int first = Math.max(this.ranges[i], other.ranges[j]);
+            int last = Math.min(this.ranges[i + 1], other.ranges[j + 1]);
+            if (first <= last) {
+                ranges[count++] = first;
+                ranges[count++] = last;
+            }
+            if (this.ranges[i + 1] < other.ranges[j + 1]) i += 2;
+            else j += 2;
+        }
+
+        return new CharClass(bits, Arrays.copyOf(ranges, count));
+    }
+
+    /**
+     * Returns the class of the code points not in this class.
+     *
+     * @return the complement of the class
+     */
+    public CharClass negate() {
+
+        long[] bits = new long[BMP_WORDS];
+        for (int i = 0; i < BMP_WORDS; i++) bits[i] = (i < this.bits.length) ? ~this.bits[i] : ~0L;
+
+        int[] ranges = new int[this.ranges.length + 2];
+        int count = 0;
+        int next = BMP_MAX + 1;
+
+        for (int k = 0; k < this.ranges.length; k += 2) {
+            if (this.ranges[k] > next) {
+                ranges[count++] = next;
+                ranges[count++] = this.ranges[k] - 1;
+            }
+            next = this.ranges[k + 1] + 1;
+        }
+
+        if (next <= Character.MAX_CODE_POINT) {
+            ranges[count++] = next;
+            ranges[count++] = Character.MAX_CODE_POINT;
+        }
+
+        return new CharClass(bits, Arrays.copyOf(ranges, count));
+    }
+
+    /**
+     * Returns the number of characters in the class.
+     *
+     * @return the number of characters
+     */
+    public int getSize() {
+        int size = 0;
+        for (long word : this.bits) size += Long.bitCount(word);
+        for (int k = 0; k < this.ranges.length; k += 2) size += this.ranges[k + 1] - this.ranges[k] + 1;
+        return size;
+    }
+
+    /**
+     * Checks if this class has the same characters as another object.
+     *
+     * @param o the object to compare with
+     * @return true if the object is a class with the same characters
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CharClass other)) return false;
+        return Arrays.equals(this.bits, other.bits) && Arrays.equals(this.ranges, other.ranges);
+    }
+
+    /**
+     * Computes the hash code of the class from its characters.
+     *
+     * @return the hash code of the class
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(this.bits) + Arrays.hashCode(this.ranges);
+    }
+
+    /**
+     * Returns the characters of the class when there are few of them, their ranges otherwise.
+     *
+     * @return the string representation of the class
+     */
+    @Override
+    public String toString() {
+
+        if (this.string != null) return this.string;
+
+        StringBuilder builder = new StringBuilder();
+        boolean enumerate = this.getSize() <= 128;
+        int end = this.bits.length << 6;
+        int first = -1;
+
+        for (int c = 0; c <= end; c++) {
+            boolean member = c < end && this.contains(c);
+            if (enumerate && member) builder.append((char) c);
+            else if (!enumerate && member && first < 0) first = c;
+            else if (!enumerate && !member && first >= 0) {
+                builder.appendCodePoint(first).append('-').appendCodePoint(c - 1);
+                first = -1;
+            }
+        }
+
+        for (int k = 0; k < this.ranges.length; k += 2) {
+            if (enumerate) for (int c = this.ranges[k]; c <= this.ranges[k + 1]; c++) builder.appendCodePoint(c);
+            else builder.appendCodePoint(this.ranges[k]).append('-').appendCodePoint(this.ranges[k + 1]);
+        }
+
+        this.string = enumerate ? builder.toString() : "[" + builder + "]";
+        return this.string;
+    }
+}
@@ -5,14 +5,21 @@ import com.vijie.core.errors.GenericFailedTokenError;
 import com.vijie.core.errors.TokenInstantiationError;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.IToken;
+import com.vijie.core.interfaces.ITokenConstructor;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
-import static com.vijie.core.Utils.prependParam;
+import static com.vijie.core.Utils.inferParamsTypes;
 import static com.vijie.core.Utils.prependParamType;
 
 
@@ -24,12 +31,53 @@ import static com.vijie.core.Utils.prependParamType;
  */
 public abstract class CompositeToken<V> extends Token<V> implements ICompositeToken<V> {
 
+    /**
+     * The constructors already resolved, by token type and then by parameter types.
+     */
+    private static final ClassValue<Map<List<Class<?>>, ITokenConstructor<?>>> CONSTRUCTORS = new ClassValue<>() {
+        @Override
+        protected Map<List<Class<?>>, ITokenConstructor<?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Whether the {@code match} method of each token type can be used in place of {@code parse}.
+     */
+    private static final ClassValue<Boolean> NATIVE_MATCH = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                Class<?> parse = type.getMethod("parse").getDeclaringClass();
+                Class<?> match = type.getMethod("match").getDeclaringClass();
+                return !match.isInterface() && parse.isAssignableFrom(match);
+            } catch (NoSuchMethodException _) {
+                return false;
+            }
+        }
+    };
+
+    /**
+     * Parses a token through the result protocol.
+     * <p>
+     * The {@code match} method of a token is only used if {@code parse} is not overridden below it,
+     * since a subclass that changes {@code parse} expects it to be called; such a token is parsed
+     * through {@link ICompositeToken#matchByParse(ICompositeToken)} instead.
+     *
+     * @param token the token to parse
+     * @return true if the token matched, false otherwise
+     * @throws BaseParseError if the parse is interrupted
+     */
+    public static boolean match(ICompositeToken<?> token) throws BaseParseError {
+        if (NATIVE_MATCH.get(token.getClass())) return token.match();
+        return ICompositeToken.matchByParse(token);
+    }
+
     /**
      * Instantiates a token of the specified type using the provided parent and sequence.
      * <p>
-     * This method uses reflection to tryParse and invoke a constructor of the specified token type.
-     * It prepends the parent and sequence parameters to the provided additional parameters
-     * and attempts to create a new instance of the token type.
+     * The constructor matching the types of the parameters is found by reflection on the first call,
+     * then cached by token type and parameter types (see {@link #getConstructor(Class, Object...)}).
      *
      * @param <T>       the type of the composite token to instantiate
      * @param tokenType the class type of the token to instantiate
@@ -41,20 +89,122 @@ public abstract class CompositeToken<V> extends Token<V> implements ICompositeTo
      * @throws RuntimeException        if an exception is thrown by the constructor
      */
     public static <T extends ICompositeToken<?>> T instantiate(Class<T> tokenType, ICompositeToken<?> parent, Sequence sequence, Object... params) {
+        return CompositeToken.instantiate(CompositeToken.getConstructor(tokenType, params), parent, sequence);
+    }
 
+    /**
+     * Instantiates a token with the given constructor.
+     *
+     * @param <T>         the type of the composite token to instantiate
+     * @param constructor the constructor of the token
+     * @param parent      the parent composite token
+     * @param sequence    the sequence to parse
+     * @return an instance of the token
+     * @throws RuntimeException if an exception is thrown by the constructor
+     */
+    public static <T extends ICompositeToken<?>> T instantiate(ITokenConstructor<T> constructor, ICompositeToken<?> parent, Sequence sequence) {
         try {
-            return tokenType
-                    .getConstructor(prependParamType(params))
-                    .newInstance(prependParam(parent, sequence, params));
-        } catch (NoSuchMethodException |
-                 InstantiationException |
-                 IllegalAccessException error) {
-            throw new TokenInstantiationError(error, tokenType, params);
-        } catch (InvocationTargetException error) {
-            throw new RuntimeException(error.getCause());
+            return constructor.create(parent, sequence);
+        } catch (RuntimeException | Error error) {
+            throw new RuntimeException(error);
+        }
+    }
+
+    /**
+     * Returns the constructor of a token type that accepts the given parameters after the parent and the sequence.
+     * <p>
+     * The constructor is resolved once per token type and parameter types. Without parameters,
+     * it is bound to a functional interface by {@link LambdaMetafactory}, so that creating a token
+     * is a plain constructor call; otherwise it is called through a {@link MethodHandle}.
+     *
+     * @param <T>       the type of the composite token
+     * @param tokenType the class type of the token
+     * @param params    additional parameters to pass to the constructor
+     * @return the constructor of the token, with the parameters bound
+     * @throws TokenInstantiationError if no suitable constructor is found or it cannot be accessed
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ICompositeToken<?>> ITokenConstructor<T> getConstructor(Class<T> tokenType, Object... params) {
+
+        Map<List<Class<?>>, ITokenConstructor<?>> constructors = CONSTRUCTORS.get(tokenType);
+        List<Class<?>> types = List.of(inferParamsTypes(params));
+        ITokenConstructor<?> constructor = constructors.get(types);
+
+        if (constructor == null) {
+            try {
+                constructor = CompositeToken.resolveConstructor(tokenType, params.length, tokenType.getConstructor(prependParamType(params)));
+            } catch (NoSuchMethodException | IllegalAccessException error) {
+                throw new TokenInstantiationError(error, tokenType, params);
+            }
+            constructors.put(types, constructor);
+        }
+
+        if (params.length == 0) return (ITokenConstructor<T>) constructor;
+
+        ParamsConstructor<T> bound = (ParamsConstructor<T>) constructor;
+        return (parent, sequence) -> bound.create(parent, sequence, params);
+    }
+
+    /**
+     * A constructor called with additional parameters.
+     *
+     * @param <T> the type of the composite token
+     */
+    @FunctionalInterface
+    private interface ParamsConstructor<T extends ICompositeToken<?>> extends ITokenConstructor<T> {
+
+        T create(ICompositeToken<?> parent, Sequence sequence, Object[] params);
+
+        @Override
+        default T create(ICompositeToken<?> parent, Sequence sequence) {
+            return this.create(parent, sequence, new Object[0]);
         }
     }
 
+    /**
+     * Binds a reflected constructor to a functional interface.
+     *
+     * @param tokenType   the class type of the token
+     * @param count       the number of additional parameters
+     * @param constructor the reflected constructor
+     * @return a {@link ITokenConstructor} without parameters, a {@link ParamsConstructor} otherwise
+     * @throws IllegalAccessException if the constructor cannot be accessed
+     */
+    private static ITokenConstructor<?> resolveConstructor(Class<?> tokenType, int count, Constructor<?> constructor) throws IllegalAccessException {
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle handle = lookup.unreflectConstructor(constructor);
+
+        if (count == 0) {
+            try {
+                return (ITokenConstructor<?>) LambdaMetafactory.metafactory(
+                        lookup,
+                        "create",
+                        MethodType.methodType(ITokenConstructor.class),
+                        MethodType.methodType(ICompositeToken.class, ICompositeToken.class, Sequence.class),
+                        handle,
+                        MethodType.methodType(tokenType, ICompositeToken.class, Sequence.class)
+                ).getTarget().invoke();
+            } catch (Throwable _) {
+                // The token type is not visible from this class, the handle is called directly.
+            }
+        }
+
+        MethodHandle spread = handle
+                .asSpreader(Object[].class, count)
+                .asType(MethodType.methodType(ICompositeToken.class, ICompositeToken.class, Sequence.class, Object[].class));
+
+        return (ParamsConstructor<?>) (parent, sequence, params) -> {
+            try {
+                return (ICompositeToken<?>) spread.invokeExact(parent, sequence, params);
+            } catch (RuntimeException | Error error) {
+                throw error;
+            } catch (Throwable error) {
+                throw new RuntimeException(error);
+            }
+        };
+    }
+
     /**
      * The sequence of tokens that this composite represents.
      */
@@ -79,18 +229,22 @@ public abstract class CompositeToken<V> extends Token<V> implements ICompositeTo
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The index is kept by the sequence until its content changes.
      */
     @Override
     public int getIndex() {
-        return this.getContent()[0].getIndex();
+        return this.sequence.getStartIndex();
     }
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The length is kept by the sequence until its content changes.
      */
     @Override
     public int getLength() {
-        return Arrays.stream(this.getContent()).mapToInt(IToken::getLength).sum();
+        return this.sequence.getLength();
     }
 
     /**
@@ -0,0 +1,207 @@
+package com.vijie.core;
+
+import com.vijie.core.errors.GenericParseError;
+import com.vijie.core.events.MemoLookupEvent;
+import com.vijie.core.errors.OptionalNotFound;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A packrat memoization table holding the results of parsers at given input indexes.
+ * <p>
+ * The table is held by a {@link Root} for the duration of its parse and shared by every
+ * sequence derived from the root sequence. It is keyed by start index and parser; a parser
+ * is identified by its {@code equals} method, so factories of the same token type and
+ * parameters share their entries.
+ * <p>
+ * Tokens whose parsing depends on their parent should not be parsed with memoization enabled,
+ * since a cached token is reused under any parent.
+ */
+public final class Memo {
+
+    /**
+     * A memoized result, either a token or a failure.
+     * A failure recorded through the result protocol has no error.
+     *
+     * @param token  the parsed token, or null if the parser failed
+     * @param error  the parse error, or null if the parser succeeded or its error was not built
+     * @param absent whether the parser is optional and was not found
+     * @param cut    whether the parser failed after a commit point, which a reused failure
+     *               reports to the attempt reusing it
+     */
+    public record Entry(IToken<?> token, GenericParseError error, boolean absent, boolean cut) {
+
+        /**
+         * Checks if the memoized result is a success.
+         *
+         * @return true if the result holds a token, false otherwise
+         */
+        public boolean isSuccess() {
+            return this.token != null;
+        }
+    }
+
+    /**
+     * The memoized results by start index, then by parser, so that the results started
+     * before an index are released without walking the others.
+     */
+    private final Map<Integer, Map<IParser<?>, Entry>> entries = new HashMap<>();
+
+    /**
+     * The number of memoized results.
+     */
+    private int size;
+
+    /**
+     * The lowest start index that may hold results, or {@link Integer#MAX_VALUE} if none.
+     */
+    private int low = Integer.MAX_VALUE;
+
+    /**
+     * The number of lookups that found a result.
+     */
+    private long hits;
+
+    /**
+     * The number of lookups that did not find a result.
+     */
+    private long misses;
+
+    /**
+     * Looks up the result of a parser at a given index.
+     *
+     * @param parser the parser
+     * @param index  the start index
+     * @return the memoized result, or null if there is none
+     */
+    public Entry get(IParser<?> parser, int index) {
+        Map<IParser<?>, Entry> atIndex = this.entries.get(index);
+        Entry entry = (atIndex == null) ? null : atIndex.get(parser);
+        if (entry == null) this.misses++;
+        else this.hits++;
+        new MemoLookupEvent().emit(parser, index, entry != null);
+        return entry;
+    }
+
+    /**
+     * Stores a successful result.
+     *
+     * @param parser the parser
+     * @param index  the start index
+     * @param token  the parsed token
+     */
+    public void putSuccess(IParser<?> parser, int index, IToken<?> token) {
+        this.put(parser, index, new Entry(token, null, false, false));
+    }
+
+    /**
+     * Stores a failed result.
+     *
+     * @param parser the parser
+     * @param index  the start index
+     * @param error  the parse error
+     * @param cut    whether the parser failed after a commit point
+     */
+    public void putFailure(IParser<?> parser, int index, GenericParseError error, boolean cut) {
+        this.put(parser, index, new Entry(null, error, error instanceof OptionalNotFound, cut));
+    }
+
+    /**
+     * Stores a failed result without its error.
+     *
+     * @param parser the parser
+     * @param index  the start index
+     * @param absent whether the parser is optional and was not found
+     * @param cut    whether the parser failed after a commit point
+     */
+    public void putFailure(IParser<?> parser, int index, boolean absent, boolean cut) {
+        this.put(parser, index, new Entry(null, null, absent, cut));
+    }
+
+    /**
+     * Stores a result.
+     *
+     * @param parser the parser
+     * @param index  the start index
+     * @param entry  the result
+     */
+    private void put(IParser<?> parser, int index, Entry entry) {
+        if (this.entries.computeIfAbsent(index, key -> new HashMap<>()).put(parser, entry) == null) this.size++;
+        this.low = Math.min(this.low, index);
+    }
+
+    /**
+     * Returns the number of lookups that found a result.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a result.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Returns the ratio of lookups that found a result.
+     *
+     * @return the hit rate, between 0 and 1
+     */
+    public double getHitRate() {
+        long total = this.hits + this.misses;
+        return (total == 0) ? 0 : (double) this.hits / total;
+    }
+
+    /**
+     * Returns the number of memoized results.
+     *
+     * @return the number of entries
+     */
+    public int getSize() {
+        return this.size;
+    }
+
+    /**
+     * Removes the memoized results of the parsers started before an index.
+     * <p>
+     * Used when a commit point is passed, to bound the memory of the table. The choices being
+     * parsed no longer backtrack before the commit point, but once the attempt holding it
+     * succeeds, an enclosing choice may: the results it needs there are then parsed again.
+     * The cost is in the number of indexes released, not in the size of the table.
+     *
+     * @param index the index of the commit point
+     */
+    public void releaseBefore(int index) {
+        if (index <= this.low) return;
+        for (int i = this.low; i < index && this.size > 0; i++) {
+            Map<IParser<?>, Entry> released = this.entries.remove(i);
+            if (released != null) this.size -= released.size();
+        }
+        this.low = (this.size == 0) ? Integer.MAX_VALUE : index;
+    }
+
+    /**
+     * Removes every memoized result and resets the counters.
+     */
+    public void clear() {
+        this.entries.clear();
+        this.size = 0;
+        this.low = Integer.MAX_VALUE;
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Memo(entries=%d, hits=%d, misses=%d, rate=%.2f)".formatted(this.getSize(), this.hits, this.misses, this.getHitRate());
+    }
+}
@@ -38,6 +38,14 @@ public abstract class NodeToken<V> extends CompositeToken<V> implements INodeTok
         return this.parent;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setParent(ICompositeToken<?> parent) {
+        this.parent = parent;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,124 @@
+package com.vijie.core;
+
+import com.vijie.core.interfaces.IToken;
+
+/**
+ * The outcome of a parser used through {@link com.vijie.core.interfaces.IParser#match},
+ * the parse protocol that does not throw when the input does not match.
+ * <p>
+ * A result is either a success holding the parsed token, a failure, or an absence when an
+ * optional parser is not found. Failures and absences carry no error and are shared
+ * instances, so a parser that does not match allocates nothing to report it. When the
+ * reason of a failure is needed, the parser is run again through
+ * {@link com.vijie.core.interfaces.IParser#parse}, which throws the error.
+ *
+ * @param <T> the type of the parsed token
+ */
+public final class ParseResult<T extends IToken<?>> {
+
+    /**
+     * The result of a parser that did not match.
+     */
+    private static final ParseResult<?> FAILURE = new ParseResult<>(null, false);
+
+    /**
+     * The result of an optional parser that was not found.
+     */
+    private static final ParseResult<?> ABSENT = new ParseResult<>(null, true);
+
+    /**
+     * Returns the result of a parser that matched.
+     *
+     * @param token the parsed token
+     * @param <T>   the type of the token
+     * @return a successful result
+     */
+    public static <T extends IToken<?>> ParseResult<T> success(T token) {
+        return new ParseResult<>(token, false);
+    }
+
+    /**
+     * Returns the result of a parser that did not match.
+     *
+     * @param <T> the type of the token
+     * @return the shared failed result
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends IToken<?>> ParseResult<T> failure() {
+        return (ParseResult<T>) FAILURE;
+    }
+
+    /**
+     * Returns the result of an optional parser that was not found.
+     *
+     * @param <T> the type of the token
+     * @return the shared absent result
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends IToken<?>> ParseResult<T> absent() {
+        return (ParseResult<T>) ABSENT;
+    }
+
+    /**
+     * The parsed token, or null if the parser did not match.
+     */
+    private final T token;
+
+    /**
+     * Whether the parser is optional and was not found.
+     */
+    private final boolean absent;
+
+    /**
+     * Constructs a result.
+     *
+     * @param token  the parsed token, or null
+     * @param absent whether an optional parser was not found
+     */
+    private ParseResult(T token, boolean absent) {
+        this.token = token;
+        this.absent = absent;
+    }
+
+    /**
+     * Checks if the parser matched.
+     *
+     * @return true if the result holds a token, false otherwise
+     */
+    public boolean isSuccess() {
+        return this.token != null;
+    }
+
+    /**
+     * Checks if the parser did not match, and was not optional.
+     *
+     * @return true if the result is a failure, false otherwise
+     */
+    public boolean isFailure() {
+        return this.token == null && !this.absent;
+    }
+
+    /**
+     * Checks if the parser is optional and was not found.
+     *
+     * @return true if the result is an absence, false otherwise
+     */
+    public boolean isAbsent() {
+        return this.absent;
+    }
+
+    /**
+     * Returns the parsed token.
+     *
+     * @return the token, or null if the parser did not match
+     */
+    public T getToken() {
+        return this.token;
+    }
+
+    @Override
+    public String toString() {
+        if (this.isSuccess()) return "Success(%s)".formatted(this.token);
+        return this.absent ? "Absent" : "Failure";
+    }
+}
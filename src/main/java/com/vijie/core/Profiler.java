@@ -0,0 +1,308 @@
+package com.vijie.core;
+
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A profiler of the parsers attempted during a parse.
+ * <p>
+ * Like the {@link Memo}, the profiler is held by a {@link Root} for the duration of its parse
+ * and shared by every sequence derived from the root sequence. Each parser attempted through
+ * {@link Sequence#tryParse} or {@link Sequence#tryMatch} is measured, and its figures are
+ * aggregated by parser, identified by its {@code equals} method, and by the type of token it
+ * produces: attempts, successes, failures by error type, inclusive and exclusive time,
+ * characters consumed and sequence copies made.
+ * <p>
+ * The time of a parser nested in itself is only counted once in its inclusive time.
+ */
+public final class Profiler {
+
+    /**
+     * The figures of a parser, or of the parsers of a type of token.
+     */
+    public static final class Stats {
+
+        private final String name;
+        private long attempts;
+        private long successes;
+        private final Map<Class<?>, Long> failures = new LinkedHashMap<>();
+        private long inclusiveNanos;
+        private long exclusiveNanos;
+        private long chars;
+        private long copies;
+
+        /**
+         * The number of attempts in progress, so that recursive attempts are timed once.
+         */
+        private int active;
+
+        private Stats(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Returns the name of the parser, or of the type of token.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return this.name;
+        }
+
+        /**
+         * Returns the number of attempts.
+         *
+         * @return the number of attempts
+         */
+        public long getAttempts() {
+            return this.attempts;
+        }
+
+        /**
+         * Returns the number of attempts that produced a token.
+         *
+         * @return the number of successes
+         */
+        public long getSuccesses() {
+            return this.successes;
+        }
+
+        /**
+         * Returns the number of failed attempts by error type.
+         * A parser that does not match through the result protocol fails with {@link ParseResult},
+         * and an optional parser that is not found with its error type.
+         *
+         * @return the number of failures by error type
+         */
+        public Map<Class<?>, Long> getFailures() {
+            return new LinkedHashMap<>(this.failures);
+        }
+
+        /**
+         * Returns the total number of failed attempts.
+         *
+         * @return the number of failures
+         */
+        public long getFailureCount() {
+            return this.failures.values().stream().mapToLong(Long::longValue).sum();
+        }
+
+        /**
+         * Returns the time spent in the attempts, nested attempts included.
+         *
+         * @return the inclusive time, in nanoseconds
+         */
+        public long getInclusiveNanos() {
+            return this.inclusiveNanos;
+        }
+
+        /**
+         * Returns the time spent in the attempts, nested attempts excluded.
+         *
+         * @return the exclusive time, in nanoseconds
+         */
+        public long getExclusiveNanos() {
+            return this.exclusiveNanos;
+        }
+
+        /**
+         * Returns the number of characters of the tokens produced.
+         *
+         * @return the number of characters consumed
+         */
+        public long getChars() {
+            return this.chars;
+        }
+
+        /**
+         * Returns the number of sequences copied during the attempts, nested attempts excluded.
+         *
+         * @return the number of copies
+         */
+        public long getCopies() {
+            return this.copies;
+        }
+
+        @Override
+        public String toString() {
+            return "%s: %d attempts, %d successes, %s failures, %d ns inclusive, %d ns exclusive, %d chars, %d copies".formatted(
+                    this.name, this.attempts, this.successes, this.failures,
+                    this.inclusiveNanos, this.exclusiveNanos, this.chars, this.copies);
+        }
+    }
+
+    /**
+     * An attempt in progress.
+     *
+     * @param parser   the figures of the parser
+     * @param type     the figures of the type of token
+     * @param start    the start time, in nanoseconds
+     * @param children the time spent in the nested attempts, in nanoseconds
+     */
+    private record Frame(Stats parser, Stats type, long start, long[] children) {}
+
+    /**
+     * The figures by parser.
+     */
+    private final Map<IParser<?>, Stats> parsers = new HashMap<>();
+
+    /**
+     * The figures by type of token.
+     */
+    private final Map<Class<?>, Stats> types = new HashMap<>();
+
+    /**
+     * The attempts in progress, innermost first.
+     */
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    /**
+     * Starts the attempt of a parser.
+     *
+     * @param parser the parser
+     */
+    void enter(IParser<?> parser) {
+
+        Stats byParser = this.parsers.computeIfAbsent(parser, key -> new Stats(key.toString()));
+        Class<?> type = parser.getType();
+        Stats byType = this.types.computeIfAbsent(type, key -> new Stats(key.getSimpleName()));
+
+        byParser.attempts++;
+        byParser.active++;
+        byType.attempts++;
+        byType.active++;
+
+        this.frames.push(new Frame(byParser, byType, System.nanoTime(), new long[1]));
+    }
+
+    /**
+     * Ends the current attempt with a token.
+     *
+     * @param token the parsed token
+     */
+    void success(IToken<?> token) {
+        Frame frame = this.exit();
+        frame.parser.successes++;
+        frame.parser.chars += token.getLength();
+        frame.type.successes++;
+        frame.type.chars += token.getLength();
+    }
+
+    /**
+     * Ends the current attempt with a failure.
+     *
+     * @param failure the type of the error, or {@link ParseResult} for a parser that did not match
+     */
+    void failure(Class<?> failure) {
+        Frame frame = this.exit();
+        frame.parser.failures.merge(failure, 1L, Long::sum);
+        frame.type.failures.merge(failure, 1L, Long::sum);
+    }
+
+    /**
+     * Records a copy of a sequence in the current attempt.
+     */
+    void copy() {
+        Frame frame = this.frames.peek();
+        if (frame == null) return;
+        frame.parser.copies++;
+        frame.type.copies++;
+    }
+
+    /**
+     * Ends the current attempt and records its time.
+     *
+     * @return the attempt
+     */
+    private Frame exit() {
+
+        Frame frame = this.frames.pop();
+        long elapsed = System.nanoTime() - frame.start;
+        long exclusive = elapsed - frame.children[0];
+
+        Frame outer = this.frames.peek();
+        if (outer != null) outer.children[0] += elapsed;
+
+        for (Stats stats : new Stats[]{frame.parser, frame.type}) {
+            stats.exclusiveNanos += exclusive;
+            if (--stats.active == 0) stats.inclusiveNanos += elapsed;
+        }
+
+        return frame;
+    }
+
+    /**
+     * Returns the figures by parser.
+     *
+     * @return the figures of each parser
+     */
+    public Map<IParser<?>, Stats> getParsers() {
+        return new HashMap<>(this.parsers);
+    }
+
+    /**
+     * Returns the figures by type of token.
+     *
+     * @return the figures of each type of token
+     */
+    public Map<Class<?>, Stats> getTypes() {
+        return new HashMap<>(this.types);
+    }
+
+    /**
+     * Returns the figures by parser and by type of token as tables, sorted by decreasing
+     * exclusive time.
+     *
+     * @return the tables
+     */
+    public String getTable() {
+        return table("Parser", this.parsers.values()) + System.lineSeparator() + table("Token", this.types.values());
+    }
+
+    /**
+     * Formats figures as a table sorted by decreasing exclusive time.
+     *
+     * @param title the title of the first column
+     * @param stats the figures
+     * @return the table
+     */
+    private static String table(String title, Iterable<Stats> stats) {
+
+        List<Stats> rows = new ArrayList<>();
+        stats.forEach(rows::add);
+        rows.sort(Comparator.comparingLong(Stats::getExclusiveNanos).reversed());
+
+        String format = "%-48s %10s %10s %10s %12s %12s %10s %8s  %s%n";
+        StringBuilder builder = new StringBuilder();
+
+        builder.append(format.formatted(title, "attempts", "successes", "failures", "incl (ms)", "excl (ms)", "chars", "copies", "failures by type"));
+
+        for (Stats row : rows) {
+
+            StringBuilder failures = new StringBuilder();
+            row.failures.forEach((type, count) -> failures.append(failures.isEmpty() ? "" : ", ").append(type.getSimpleName()).append('=').append(count));
+
+            String name = (row.name.length() > 48) ? row.name.substring(0, 45) + "..." : row.name;
+
+            builder.append(format.formatted(name, row.attempts, row.successes, row.getFailureCount(),
+                    "%.3f".formatted(row.inclusiveNanos / 1e6), "%.3f".formatted(row.exclusiveNanos / 1e6),
+                    row.chars, row.copies, failures));
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.getTable();
+    }
+}
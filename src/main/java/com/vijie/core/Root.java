@@ -1,10 +1,16 @@
 package com.vijie.core;
 
+import com.vijie.core.errors.Failures;
 import com.vijie.core.interfaces.IRootToken;
 import com.vijie.core.interfaces.IToken;
 import com.vijie.core.symbols.Atom;
 import com.vijie.core.symbols.Symbol;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+
 /**
  * Abstract class Root that extends CompositeToken and implements IRootToken.
  *
@@ -33,12 +39,24 @@ public abstract class Root<V> extends CompositeToken<V> implements IRootToken<V>
 
     /**
      * Constructor that initializes the Root with a raw string.
-     * The string is tokenized into a Sequence.
+     * The Atoms of the string are created as they are requested.
      *
      * @param raw the raw string to initialize the Root with
      */
     protected Root(String raw) {
-        this(Sequence.tokenize(raw));
+        this(Sequence.fromChars(raw));
+    }
+
+    /**
+     * Constructor that initializes the Root with the content of a file.
+     * The file is mapped in memory and decoded as it is parsed.
+     *
+     * @param path the path of the file
+     * @param charset the charset of the file
+     * @throws IOException if the file cannot be read
+     */
+    protected Root(Path path, Charset charset) throws IOException {
+        this(Sequence.fromPath(path, charset));
     }
 
     /**
@@ -50,6 +68,95 @@ public abstract class Root<V> extends CompositeToken<V> implements IRootToken<V>
         return 0;
     }
 
+    /**
+     * Enables packrat memoization for the parse of this Root.
+     * The results of every parser attempted at a given index are kept and reused
+     * until memoization is disabled.
+     *
+     * @return the memoization table
+     */
+    public Memo enableMemo() {
+        Memo memo = new Memo();
+        this.getSequence().setMemo(memo);
+        return memo;
+    }
+
+    /**
+     * Disables packrat memoization for the parse of this Root.
+     */
+    public void disableMemo() {
+        this.getSequence().setMemo(null);
+    }
+
+    /**
+     * Gets the memoization table of this Root.
+     *
+     * @return the memoization table, or null if memoization is disabled
+     */
+    public Memo getMemo() {
+        return this.getSequence().getMemo();
+    }
+
+    /**
+     * Enables the profiling of the parsers attempted by the parse of this Root.
+     *
+     * @return the profiler
+     */
+    public Profiler enableProfiler() {
+        Profiler profiler = new Profiler();
+        this.getSequence().setProfiler(profiler);
+        return profiler;
+    }
+
+    /**
+     * Disables the profiling of the parse of this Root.
+     */
+    public void disableProfiler() {
+        this.getSequence().setProfiler(null);
+    }
+
+    /**
+     * Gets the profiler of this Root.
+     *
+     * @return the profiler, or null if profiling is disabled
+     */
+    public Profiler getProfiler() {
+        return this.getSequence().getProfiler();
+    }
+
+    /**
+     * Prints the figures of the profiler of this Root, by parser and by type of token,
+     * sorted by decreasing exclusive time.
+     *
+     * @param out the stream to print to
+     * @throws IllegalStateException if profiling is disabled
+     */
+    public void dumpProfile(PrintStream out) {
+        Profiler profiler = this.getProfiler();
+        if (profiler == null) throw new IllegalStateException("Profiling is disabled");
+        out.print(profiler.getTable());
+    }
+
+    /**
+     * Sets how the errors of the choices of this Root are reported.
+     * By default, the errors of every alternative are kept; with {@link Failures.Mode#FARTHEST},
+     * only the farthest failure of a choice and the parsers expected there are kept.
+     *
+     * @param mode the reporting mode
+     */
+    public void setErrorMode(Failures.Mode mode) {
+        this.getSequence().setErrorMode(mode);
+    }
+
+    /**
+     * Gets how the errors of the choices of this Root are reported.
+     *
+     * @return the reporting mode
+     */
+    public Failures.Mode getErrorMode() {
+        return this.getSequence().getErrorMode();
+    }
+
     public void insert(int index, Character value) {
 
         Symbol<?> atom = this.getSequence().insert(index, value);
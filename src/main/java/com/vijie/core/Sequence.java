@@ -1,16 +1,32 @@
 package com.vijie.core;
 
 import com.vijie.core.errors.*;
+import com.vijie.core.events.RootParseEvent;
+import com.vijie.core.events.TokenParseEvent;
 import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IDummyToken;
+import com.vijie.core.interfaces.INodeToken;
 import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IRootToken;
 import com.vijie.core.interfaces.ISymbol;
 import com.vijie.core.interfaces.IToken;
+import com.vijie.core.interfaces.ITokenSource;
 import com.vijie.core.parsers.Char;
+import com.vijie.core.parsers.Cut;
+import com.vijie.core.sources.ArraySource;
+import com.vijie.core.sources.CharSource;
+import com.vijie.core.sources.MappedSource;
+import com.vijie.core.sources.StreamSource;
 import com.vijie.core.symbols.Atom;
 import com.vijie.core.symbols.EOF;
 import com.vijie.core.symbols.Symbol;
 import com.vijie.core.tokens.DefinedChar;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -45,19 +61,177 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @return a new Sequence object
      */
     public static Sequence fromString(String input) {
-        return new Sequence(Sequence.tokenize(input));
+        return Sequence.fromSource(new ArraySource(Sequence.tokenize(input)));
     }
 
     /**
-     * The list of tokens in the sequence.
+     * Creates a Sequence from a sequence of characters.
+     * Unlike {@link #fromString(String)}, the input is not tokenized upfront:
+     * Atoms are created only when a token is requested at their index.
+     *
+     * @param input the input characters
+     * @return a new Sequence object
+     */
+    public static Sequence fromChars(CharSequence input) {
+        return Sequence.fromSource(new CharSource(input));
+    }
+
+    /**
+     * Creates a Sequence from a file, mapped in memory rather than read in the heap.
+     *
+     * @param path the path of the file
+     * @param charset the charset of the file
+     * @return a new Sequence object
+     * @throws IOException if the file cannot be read
      */
-    private List<IToken<?>> content;
+    public static Sequence fromPath(Path path, Charset charset) throws IOException {
+        return Sequence.fromSource(new MappedSource(path, charset));
+    }
+
+    /**
+     * Creates a Sequence from a character stream.
+     * Characters are read as they are requested, and the stream is kept in memory
+     * only from the oldest position a parser can still backtrack to.
+     *
+     * @param reader the character stream
+     * @return a new Sequence object
+     */
+    public static Sequence fromReader(Reader reader) {
+        return Sequence.fromSource(new StreamSource(reader));
+    }
+
+    /**
+     * Creates a Sequence from a byte stream.
+     *
+     * @param input the byte stream
+     * @param charset the charset of the stream
+     * @return a new Sequence object
+     * @see #fromReader(Reader)
+     */
+    public static Sequence fromStream(InputStream input, Charset charset) {
+        return Sequence.fromSource(new StreamSource(input, charset));
+    }
+
+    /**
+     * Creates a Sequence over the whole content of a source.
+     * The size of a streamed source is not requested until it is needed.
+     *
+     * @param source the source of the tokens
+     * @return a new Sequence object
+     */
+    public static Sequence fromSource(ITokenSource source) {
+        Sequence sequence = new Sequence(source, new ArrayList<>(), 0, source.isStreamed() ? OPEN : source.size(), 0);
+        sequence.cuts = new Cuts();
+        sequence.failures = new Failures(Failures.Mode.FARTHEST);
+        return sequence;
+    }
+
+    /**
+     * The limit of a source range whose end is not known yet.
+     */
+    private static final int OPEN = Integer.MAX_VALUE;
+
+    /**
+     * The number of characters stepped over by {@link #skip(CharClass, int)} between two
+     * moves of the tokens of a streamed source into the head.
+     */
+    private static final int SKIP_CHUNK = 4096;
+
+    /**
+     * The shared, never modified, source of tokens.
+     * Views created by {@link #copy()} and {@link #copyRemainder()} read from the same source.
+     */
+    private final ITokenSource source;
+
+    /**
+     * The tokens fused into this sequence, placed before the source range.
+     */
+    private List<IToken<?>> head;
+
+    /**
+     * Whether the head list is shared with another sequence and must be copied before writing.
+     */
+    private boolean headShared;
+
+    /**
+     * The start index (inclusive) of the source range following the head.
+     */
+    private int tailStart;
+
+    /**
+     * The end index (exclusive) of the source range following the head,
+     * or {@link #OPEN} until the end of a streamed source is requested.
+     */
+    private int limit;
 
     /**
      * The current pointer index in the sequence.
      */
     private int pointer;
 
+    /**
+     * The memoization table shared with the derived sequences, or null if disabled.
+     */
+    private Memo memo;
+
+    /**
+     * The profiler shared with the derived sequences, or null if disabled.
+     */
+    private Profiler profiler;
+
+    /**
+     * How the errors of choices are reported, shared with the derived sequences.
+     */
+    private Failures.Mode errorMode = Failures.Mode.TREE;
+
+    /**
+     * The commit point of the attempt being parsed, shared with the derived sequences.
+     */
+    private Cuts cuts;
+
+    /**
+     * The farthest failure of the parsers matched so far in {@link Failures.Mode#FARTHEST} mode,
+     * shared with the derived sequences.
+     */
+    private Failures failures;
+
+    /**
+     * The index of the first character, or -1 until it is computed after a change.
+     */
+    private int startIndex = -1;
+
+    /**
+     * The number of characters, or -1 until it is computed after a change.
+     */
+    private int length = -1;
+
+    /**
+     * The start index of each head token, built by the first hit-test and dropped when the head changes.
+     */
+    private int[] headStarts;
+
+    /**
+     * The end index of each head token, built along with {@link #headStarts}.
+     */
+    private int[] headEnds;
+
+    /**
+     * Constructs a view over a source.
+     *
+     * @param source    the shared source
+     * @param head      the tokens placed before the source range
+     * @param tailStart the start index of the source range
+     * @param limit     the end index of the source range
+     * @param pointer   the pointer index
+     */
+    private Sequence(ITokenSource source, List<IToken<?>> head, int tailStart, int limit, int pointer) {
+        this.source = source;
+        this.head = head;
+        this.tailStart = tailStart;
+        this.limit = limit;
+        this.pointer = pointer;
+    }
+
     /**
      * Constructs a Sequence with the given content and pointer.
      *
@@ -65,8 +239,9 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @param pointer the pointer index
      */
     public Sequence(IToken<?>[] content, int pointer) {
-        this.content = new ArrayList<>(Arrays.asList(content));
-        this.pointer = pointer;
+        this(new ArraySource(content.clone()), new ArrayList<>(), 0, content.length, pointer);
+        this.cuts = new Cuts();
+        this.failures = new Failures(Failures.Mode.FARTHEST);
     }
 
     /**
@@ -78,13 +253,188 @@ public final class Sequence implements Iterable<IToken<?>> {
         this(content, 0);
     }
 
+    /**
+     * Returns the token at the given cursor, without bounds checking against the pointer.
+     *
+     * @param cursor the index in the sequence
+     * @return the token at the cursor
+     */
+    private IToken<?> at(int cursor) {
+        if (cursor < this.head.size()) return this.head.get(cursor);
+        return this.source.get(this.tailStart + cursor - this.head.size());
+    }
+
+    /**
+     * Checks if the given cursor is within the sequence.
+     * Unlike a comparison with {@link #getSize()}, it does not read a streamed source past the cursor.
+     *
+     * @param cursor the index in the sequence
+     * @return true if a token exists at the cursor, false otherwise
+     */
+    private boolean contains(int cursor) {
+        if (cursor < 0) return false;
+        if (cursor < this.head.size()) return true;
+        int position = this.tailStart + cursor - this.head.size();
+        return position < this.limit && (this.limit != OPEN || this.source.has(position));
+    }
+
+    /**
+     * Clamps a cursor between 0 and the size of the sequence.
+     *
+     * @param cursor the index in the sequence
+     * @return the clamped cursor
+     */
+    private int clamp(int cursor) {
+        if (cursor <= 0) return 0;
+        return this.contains(cursor - 1) ? cursor : this.getSize();
+    }
+
+    /**
+     * Returns the position in the source of the next token read from it.
+     *
+     * @return the source position
+     */
+    private int getSourcePosition() {
+        return this.tailStart + Math.max(0, this.pointer - this.head.size());
+    }
+
+    /**
+     * Returns the character at the given cursor, without materializing its token.
+     *
+     * @param cursor the index in the sequence
+     * @return the character, or -1 if the token at the cursor is not a character
+     * @throws IndexOutOfRange if the cursor is out of bounds
+     */
+    public int getChar(int cursor) {
+        if (!this.contains(cursor)) throw new IndexOutOfRange(cursor);
+        if (cursor < this.head.size()) return (this.head.get(cursor) instanceof Atom atom) ? atom.getValue() : -1;
+        return this.source.getChar(this.tailStart + cursor - this.head.size());
+    }
+
+    /**
+     * Returns the character at the pointer, without materializing its token.
+     *
+     * @return the character, or -1 if the pointer is out of bounds or not on a character
+     */
+    public int getCurrentChar() {
+        return this.peekChar(0);
+    }
+
+    /**
+     * Returns the character at the given offset from the pointer, without materializing its token.
+     *
+     * @param offset the offset from the pointer
+     * @return the character, or -1 if the cursor is out of bounds or not on a character
+     */
+    public int peekChar(int offset) {
+        if (!this.contains(this.pointer + offset)) return -1;
+        return this.getChar(this.pointer + offset);
+    }
+
+    /**
+     * Moves the pointer over the characters of a class, without materializing their tokens.
+     * Over a streamed source, the tokens stepped over are moved into the head as the
+     * pointer goes, so that the source may discard them.
+     *
+     * @param charClass the class of characters to step over
+     * @param max the maximum number of characters to step over, or 0 for no limit
+     * @return the number of characters stepped over
+     */
+    public int skip(CharClass charClass, int max) {
+
+        int count = 0;
+
+        while (max == 0 || count < max) {
+            int current = this.getCurrentChar();
+            if (current < 0 || !charClass.contains(current)) break;
+            this.next();
+            count++;
+            if (this.source.isStreamed() && count % SKIP_CHUNK == 0) {
+                this.absorb(this.pointer - this.head.size());
+                this.source.release(this.tailStart);
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Copies the head list if it is shared with another sequence.
+     */
+    private void ownHead() {
+        this.changed();
+        if (!this.headShared) return;
+        this.head = new ArrayList<>(this.head);
+        this.headShared = false;
+    }
+
+    /**
+     * Drops the cached span and hit-test index of the sequence, before its content changes.
+     */
+    private void changed() {
+        this.startIndex = -1;
+        this.length = -1;
+        this.headStarts = null;
+    }
+
+    /**
+     * Moves the first tokens of the source range into the head.
+     *
+     * @param count the number of tokens to move
+     */
+    private void absorb(int count) {
+        this.ownHead();
+        for (int i = 0; i < count; i++) this.head.add(this.source.get(this.tailStart + i));
+        this.tailStart += count;
+    }
+
+    /**
+     * Moves the whole source range into the head.
+     */
+    private void absorbAll() {
+        this.absorb(this.getSize() - this.head.size());
+    }
+
+    /**
+     * Returns a live, read-only list view of the sequence.
+     *
+     * @return a list view of the tokens
+     */
+    private List<IToken<?>> asList() {
+        return new AbstractList<>() {
+            @Override
+            public IToken<?> get(int index) {
+                Objects.checkIndex(index, size());
+                return Sequence.this.at(index);
+            }
+
+            @Override
+            public int size() {
+                return Sequence.this.getSize();
+            }
+        };
+    }
+
     /**
      * Returns the sequence of tokens.
      *
      * @return an array of tokens
      */
     public IToken<?>[] getContent() {
-        return content.toArray(new IToken<?>[0]);
+        return this.toArray(0, this.getSize());
+    }
+
+    /**
+     * Copies a range of the sequence into a new array.
+     *
+     * @param from the start index (inclusive)
+     * @param to the end index (exclusive)
+     * @return an array of tokens
+     */
+    private IToken<?>[] toArray(int from, int to) {
+        IToken<?>[] result = new IToken<?>[to - from];
+        for (int i = from; i < to; i++) result[i - from] = this.at(i);
+        return result;
     }
 
     /**
@@ -93,7 +443,7 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @return a stream of tokens
      */
     public Stream<IToken<?>> stream() {
-        return this.content.stream();
+        return this.asList().stream();
     }
 
     /**
@@ -102,7 +452,7 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @return a TokenStream of tokens
      */
     public TokenStream<?, IToken<?>> tokenStream() {
-        return new TokenStream(this.content);
+        return new TokenStream(this.asList());
     }
 
     /**
@@ -125,20 +475,28 @@ public final class Sequence implements Iterable<IToken<?>> {
 
     /**
      * Returns the number of tokens in the sequence.
+     * Over a streamed source, the stream is read to its end.
      *
      * @return the number of tokens
      */
     public int getSize() {
-        return this.content.size();
+        if (this.limit == OPEN) this.limit = this.source.size();
+        return this.head.size() + this.limit - this.tailStart;
     }
 
     /**
      * Returns the number of characters in the sequence.
+     * The length is computed once and kept until the content of the sequence changes.
      *
      * @return the number of characters
      */
     public int getLength() {
-        return this.content.stream().mapToInt(IToken::getLength).sum();
+        if (this.length < 0) {
+            int length = 0;
+            for (int i = 0; i < this.getSize(); i++) length += this.at(i).getLength();
+            this.length = length;
+        }
+        return this.length;
     }
 
     /**
@@ -147,7 +505,7 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @return an array of tokens from the pointer to the end
      */
     public IToken<?>[] getRemainder() {
-        return this.content.subList(this.pointer, this.getSize()).toArray(new IToken<?>[0]);
+        return this.toArray(this.pointer, this.getSize());
     }
 
     /**
@@ -156,8 +514,7 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @return an array of tokens from the start to the pointer
      */
     public IToken<?>[] getConsumed() {
-        int toIndex = Math.clamp(this.pointer, 0, this.getSize());
-        return this.content.subList(0, toIndex).toArray(IToken<?>[]::new);
+        return this.toArray(0, this.clamp(this.pointer));
     }
 
     /**
@@ -167,11 +524,8 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @throws EOFException if the pointer is out of bounds
      */
     public IToken<?> getCurrent() throws EOFException {
-        try {
-            return this.content.get(this.pointer);
-        } catch (IndexOutOfBoundsException e) {
-            throw new EOFException(this);
-        }
+        if (!this.contains(this.pointer)) throw new EOFException(this);
+        return this.at(this.pointer);
     }
 
     /**
@@ -190,12 +544,16 @@ public final class Sequence implements Iterable<IToken<?>> {
 
     /**
      * Returns the index of the first character.
+     * The index is computed once and kept until the content of the sequence changes.
      *
      * @return the index of the first character
      */
     public int getStartIndex() {
-        if (this.getSize() == 0) throw new EOFException(this);
-        return this.content.getFirst().getIndex();
+        if (this.startIndex < 0) {
+            if (this.isEmpty()) throw new EOFException(this);
+            this.startIndex = this.at(0).getIndex();
+        }
+        return this.startIndex;
     }
 
     /**
@@ -205,7 +563,8 @@ public final class Sequence implements Iterable<IToken<?>> {
      */
     public int getEndIndex() {
         if (this.getSize() == 0) return 0;
-        return this.content.get(this.getSize() - 1).getIndex() + this.content.get(this.getSize() - 1).getLength();
+        IToken<?> last = this.at(this.getSize() - 1);
+        return last.getIndex() + last.getLength();
     }
 
 
@@ -236,11 +595,8 @@ public final class Sequence implements Iterable<IToken<?>> {
      */
     @SuppressWarnings("unchecked")
     public <T extends IToken<?>> T get(int cursor) {
-        try {
-            return (T) this.content.get(cursor);
-        } catch (IndexOutOfBoundsException e) {
-            throw new IndexOutOfRange(cursor);
-        }
+        if (!this.contains(cursor)) throw new IndexOutOfRange(cursor);
+        return (T) this.at(cursor);
     }
 
     /**
@@ -265,6 +621,10 @@ public final class Sequence implements Iterable<IToken<?>> {
 
     /**
      * Gets the token at the specified index.
+     * <p>
+     * The token is found by a binary search on the start indexes of the tokens. The spans of
+     * the head tokens are indexed once and kept until the head changes; the tokens of the source
+     * range are only probed along the search.
      *
      * @param index the index of the token to retrieve
      * @return the token at the specified index
@@ -272,19 +632,81 @@ public final class Sequence implements Iterable<IToken<?>> {
      */
     public IToken<?> getAt(int index) throws IndexOutOfRange {
 
-        for (IToken<?> token : this.content) {
-            if (index >= token.getIndex() && index < token.getIndex() + token.getLength()) return token;
+        int low = 0;
+        int high = this.getSize() - 1;
+        int found = -1;
+
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (this.getStartOf(middle) <= index) {
+                found = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        for (int i = found; i >= 0 && this.getStartOf(i) == this.getStartOf(found); i--) {
+            if (index < this.getEndOf(i)) return this.at(i);
         }
 
         throw new IndexOutOfRange(index);
     }
 
+    /**
+     * Returns the start index of the token at the given cursor.
+     *
+     * @param cursor the index in the sequence
+     * @return the index of the first character of the token
+     */
+    private int getStartOf(int cursor) {
+        if (cursor >= this.head.size()) return this.at(cursor).getIndex();
+        this.indexHead();
+        return this.headStarts[cursor];
+    }
+
+    /**
+     * Returns the end index of the token at the given cursor.
+     *
+     * @param cursor the index in the sequence
+     * @return the index after the last character of the token
+     */
+    private int getEndOf(int cursor) {
+        if (cursor < this.head.size()) {
+            this.indexHead();
+            return this.headEnds[cursor];
+        }
+        IToken<?> token = this.at(cursor);
+        return token.getIndex() + token.getLength();
+    }
+
+    /**
+     * Builds the span index of the head tokens if it was dropped.
+     */
+    private void indexHead() {
+
+        if (this.headStarts != null) return;
+
+        int[] starts = new int[this.head.size()];
+        int[] ends = new int[this.head.size()];
+
+        for (int i = 0; i < starts.length; i++) {
+            IToken<?> token = this.head.get(i);
+            starts[i] = token.getIndex();
+            ends[i] = starts[i] + token.getLength();
+        }
+
+        this.headEnds = ends;
+        this.headStarts = starts;
+    }
+
 
     Atom insert(int index, Character value) {
 
         Atom atom = new Atom(value, index);
 
-        this.content.add(index, atom);
+        this.absorbAll();
+        this.head.add(index, atom);
 
         return atom;
 
@@ -301,16 +723,50 @@ public final class Sequence implements Iterable<IToken<?>> {
 
     /**
      * Creates a copy of the sequence with the specified pointer.
+     * The copy shares its storage with this sequence until either one is modified.
      *
      * @param pointer the pointer index for the new sequence
      * @return a copy of the sequence
      */
     public Sequence copy(int pointer) {
-        return new Sequence(this.getContent(), pointer);
+        Sequence copy = new Sequence(this.source, this.head, this.tailStart, this.limit, pointer);
+        copy.headShared = this.headShared = true;
+        copy.headStarts = this.headStarts;
+        copy.headEnds = this.headEnds;
+        copy.startIndex = this.startIndex;
+        copy.length = this.length;
+        copy.memo = this.memo;
+        copy.profiler = this.profiler;
+        copy.errorMode = this.errorMode;
+        copy.cuts = this.cuts;
+        copy.failures = this.failures;
+        if (this.profiler != null) this.profiler.copy();
+        return copy;
+    }
+
+    /**
+     * Creates a view over the source of the sequence, from a start index to the end of the
+     * sequence, with the pointer at a given index. The view holds the tokens of the source,
+     * not the tokens fused into this sequence. A streamed source must still hold the range.
+     *
+     * @param startIndex the index of the first token of the view
+     * @param index      the index of the pointer of the view
+     * @return a view over the source
+     */
+    public Sequence getView(int startIndex, int index) {
+        Sequence view = new Sequence(this.source, new ArrayList<>(), startIndex, this.limit, index - startIndex);
+        view.memo = this.memo;
+        view.profiler = this.profiler;
+        view.errorMode = this.errorMode;
+        view.cuts = this.cuts;
+        view.failures = this.failures;
+        return view;
     }
 
     /**
      * Creates a copy of the remainder of the sequence from the pointer to the end.
+     * When the pointer has moved past every fused token, the copy is a view over
+     * the shared source range and no token is copied.
      *
      * @return a copy of the remainder of the sequence
      */
@@ -318,7 +774,179 @@ public final class Sequence implements Iterable<IToken<?>> {
 
         if (this.isDone()) throw new EOFException(this);
 
-        return new Sequence(this.getRemainder());
+        if (this.source.isStreamed() && this.pointer > this.head.size()) this.absorb(this.pointer - this.head.size());
+
+        int headSize = this.head.size();
+        Sequence remainder;
+
+        if (this.pointer >= headSize) {
+            remainder = new Sequence(this.source, new ArrayList<>(), this.tailStart + this.pointer - headSize, this.limit, 0);
+        } else {
+            remainder = new Sequence(this.source, new ArrayList<>(this.head.subList(this.pointer, headSize)), this.tailStart, this.limit, 0);
+        }
+
+        remainder.memo = this.memo;
+        remainder.profiler = this.profiler;
+        remainder.errorMode = this.errorMode;
+        remainder.cuts = this.cuts;
+        remainder.failures = this.failures;
+        if (this.profiler != null) this.profiler.copy();
+        return remainder;
+    }
+
+    /**
+     * Marks the current position as a backtrack point: a streamed source keeps every token
+     * from this position until the mark is removed, so that the sequence can be parsed
+     * again from here if an attempt fails.
+     * <p>
+     * Parsers that catch the failure of a parse and go on reading the same sequence must
+     * mark it before the parse and unmark it afterward, whatever the outcome.
+     *
+     * @return the mark, to be given to {@link #unmark(int)}
+     */
+    public int mark() {
+        int mark = this.getSourcePosition();
+        this.source.mark(mark);
+        return mark;
+    }
+
+    /**
+     * Removes a mark set by {@link #mark()}.
+     * A streamed source may then discard the tokens before the current position,
+     * unless an older mark still holds them.
+     *
+     * @param mark the mark to remove
+     */
+    public void unmark(int mark) {
+        this.source.unmark(mark);
+        this.source.release(this.getSourcePosition());
+    }
+
+    /**
+     * Returns the memoization table of the sequence.
+     *
+     * @return the memoization table, or null if memoization is disabled
+     */
+    public Memo getMemo() {
+        return this.memo;
+    }
+
+    /**
+     * Sets the memoization table of the sequence, shared with the sequences derived from it.
+     *
+     * @param memo the memoization table, or null to disable memoization
+     */
+    void setMemo(Memo memo) {
+        this.memo = memo;
+    }
+
+    /**
+     * Returns the profiler of the sequence.
+     *
+     * @return the profiler, or null if profiling is disabled
+     */
+    public Profiler getProfiler() {
+        return this.profiler;
+    }
+
+    /**
+     * Sets the profiler of the sequence, shared with the sequences derived from it.
+     *
+     * @param profiler the profiler, or null to disable profiling
+     */
+    void setProfiler(Profiler profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * Checks if the attempt being parsed passed a commit point, directly or through a nested
+     * attempt that failed after one. A choice checks it after an alternative did not match:
+     * an alternative that failed after a commit point must not be followed by another one.
+     * A commit point passed in a nested attempt that succeeded no longer counts.
+     *
+     * @return true if a commit point was passed, false otherwise
+     */
+    public boolean isCut() {
+        return this.cuts.cut;
+    }
+
+    /**
+     * Passes a commit point at an index: the choices being parsed no longer attempt their
+     * other alternatives, and the memoized results before the index are released. They are
+     * parsed again if an enclosing choice backtracks before a spent commit point.
+     *
+     * @param index the index of the commit point
+     */
+    public void cut(int index) {
+        this.cuts.cut = true;
+        if (this.memo != null) this.memo.releaseBefore(index);
+    }
+
+    /**
+     * Starts the attempt of a parser: the commit points passed before it do not count for
+     * the choices it parses. A commit point is not an attempt of its own, so that it counts
+     * for the attempt it is placed in.
+     *
+     * @param target the parser attempted
+     * @return whether the enclosing attempt passed a commit point
+     */
+    private boolean enterCuts(IParser<?> target) {
+        boolean cut = this.cuts.cut;
+        if (!(target instanceof Cut<?>)) this.cuts.cut = false;
+        return cut;
+    }
+
+    /**
+     * Ends the attempt of a parser: a commit point passed in an attempt that succeeded is
+     * spent, while one passed in an attempt that failed is reported to the enclosing attempt.
+     *
+     * @param target  the parser attempted
+     * @param cut     whether the enclosing attempt passed a commit point
+     * @param success whether the attempt succeeded
+     */
+    private void exitCuts(IParser<?> target, boolean cut, boolean success) {
+        if (target instanceof Cut<?>) return;
+        this.cuts.cut = success ? cut : (cut || this.cuts.cut);
+    }
+
+    /**
+     * Returns how the errors of choices are reported.
+     *
+     * @return the reporting mode
+     */
+    public Failures.Mode getErrorMode() {
+        return this.errorMode;
+    }
+
+    /**
+     * Sets how the errors of choices are reported, shared with the sequences derived from it.
+     *
+     * @param errorMode the reporting mode
+     */
+    void setErrorMode(Failures.Mode errorMode) {
+        this.errorMode = errorMode;
+    }
+
+    /**
+     * Returns the farthest failure of the parsers matched so far, and the parsers expected there.
+     * Failures are only recorded in {@link Failures.Mode#FARTHEST} mode, by
+     * {@link #tryMatch(ICompositeToken, IParser)}, so that the error of a parser that did not
+     * match can be built without parsing it again.
+     *
+     * @return a copy of the farthest failure
+     */
+    public Failures getFailures() {
+        return new Failures(this.failures);
+    }
+
+    /**
+     * Builds the error of a parser that did not match from the farthest failure recorded so far.
+     *
+     * @param target the parser that did not match
+     * @return the error of the parser
+     */
+    public ParserError getFailure(IParser<?> target) {
+        return new ParserError(this, new FarthestFailureError(this, target, this.getFailures()), target);
     }
 
     /**
@@ -356,7 +984,16 @@ public final class Sequence implements Iterable<IToken<?>> {
      * @return true if the pointer is at or after the end, false otherwise
      */
     public boolean isDone() {
-        return this.pointer >= this.getSize();
+        return !this.contains(this.pointer);
+    }
+
+    /**
+     * Checks if the sequence has no token.
+     *
+     * @return true if the sequence is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return !this.contains(0);
     }
 
     /**
@@ -394,59 +1031,117 @@ public final class Sequence implements Iterable<IToken<?>> {
 
     /**
      * Keeps only the tokens from the start to the specified end index.
+     * Over a streamed source, the kept tokens are moved into the head, since the
+     * source may discard them once they are parsed.
      *
      * @param start the start index
      * @param end the end index
      */
     public void slice(int start, int end) {
-        int fromIndex = Math.clamp(start, 0, this.getSize());
-        int toIndex = Math.clamp(end, fromIndex, this.getSize());
-        this.content = new ArrayList<>(this.content.subList(fromIndex, toIndex));
+        int fromIndex = this.clamp(start);
+        int toIndex = Math.max(fromIndex, this.clamp(end));
+        int headSize = this.head.size();
+
+        this.changed();
+
+        if (fromIndex == 0 && toIndex >= headSize) {
+            this.limit = this.tailStart + toIndex - headSize;
+        } else if (fromIndex >= headSize) {
+            this.head = new ArrayList<>();
+            this.headShared = false;
+            this.limit = this.tailStart + toIndex - headSize;
+            this.tailStart += fromIndex - headSize;
+        } else {
+            this.absorb(Math.max(0, toIndex - headSize));
+            this.head = new ArrayList<>(this.head.subList(fromIndex, toIndex));
+            this.headShared = false;
+            this.limit = this.tailStart;
+        }
+
+        if (this.source.isStreamed()) this.absorb(this.limit - this.tailStart);
     }
 
     /**
      * Replaces all tokens from the pointer to pointer + length of the token with the specified token.
+     * When the pointer is past the fused tokens, the replaced tokens are skipped in the
+     * source range instead of being removed from a list.
      *
      * @param token the token to replace with
      */
     public void fusion(IToken<?> token) {
-        this.content.subList(this.pointer, Math.min(this.pointer + token.getLength(), this.getSize())).clear();
-        this.content.add(this.pointer, token);
+
+        int headSize = this.head.size();
+
+        if (this.pointer >= headSize) {
+            if (this.clamp(this.pointer) != this.pointer) throw new IndexOutOfBoundsException(this.pointer);
+            this.absorb(this.pointer - headSize);
+            this.tailStart += Math.min(token.getLength(), this.limit - this.tailStart);
+            this.head.add(token);
+            this.source.release(this.tailStart);
+        } else {
+            this.absorbAll();
+            this.head.subList(this.pointer, Math.min(this.pointer + token.getLength(), this.head.size())).clear();
+            this.head.add(this.pointer, token);
+        }
+
         this.reroot(token);
     }
 
+    /**
+     * Gives the symbols of a fused token back to it, since a speculative parse may have read
+     * them for another token. Only the direct symbols are visited: the composite children of
+     * the token were rerooted when they were fused in its own sequence, so that a fusion does
+     * not walk the whole subtree, which made the parse of nested input quadratic.
+     *
+     * @param token the fused token
+     */
     private void reroot(IToken<?> token) {
-
         if (token instanceof ICompositeToken<?> parent) {
-            for (IToken<?> child : parent.getContent()) {
+            for (IToken<?> child : parent.getSequence()) {
                 if (child instanceof ISymbol<?> symbol) symbol.setParent(parent);
-                else if (child instanceof ICompositeToken<?> composite) composite.getSequence().reroot(composite);
             }
         }
+    }
 
+    /**
+     * Gives the symbols of a whole subtree back to their tokens. A memoized token may be reused
+     * after other attempts read its symbols, deeper than its direct symbols.
+     *
+     * @param token the reused token
+     */
+    private static void rerootAll(IToken<?> token) {
+        if (token instanceof ICompositeToken<?> parent) {
+            for (IToken<?> child : parent.getSequence()) {
+                if (child instanceof ISymbol<?> symbol) symbol.setParent(parent);
+                else rerootAll(child);
+            }
+        }
     }
 
     public void append(IToken<?> token) {
         if (token.getLength() != 0) throw new RuntimeException("Token length must be 0");
-        this.content.add(token);
+        this.absorbAll();
+        this.head.add(token);
     }
 
     public void find(ICompositeToken<?> parent, IParser<?> target) throws NotFoundError {
 
         while (!this.isEof()) {
 
+            int mark = this.mark();
+
             try {
-                this.tryParse(parent, target);
+                if (this.tryMatch(parent, target).isSuccess()) return;
             } catch (BaseParseError | Interruption _) {
-                try {
-                    this.parseAndStep(parent, new Char());
-                } catch (BaseParseError _) {
-                    break;
-                }
-                continue;
+            } finally {
+                this.unmark(mark);
             }
 
-            return;
+            try {
+                this.parseAndStep(parent, new Char());
+            } catch (BaseParseError _) {
+                break;
+            }
         }
 
         throw new NotFoundError(this, target);
@@ -455,6 +1150,13 @@ public final class Sequence implements Iterable<IToken<?>> {
 
     /**
      * Parses the input using the specified parser and parent composite token.
+     * <p>
+     * The parse is speculative: it runs on a copy of the remainder and leaves this
+     * sequence unchanged. The returned token is only part of the sequence once it is
+     * committed with {@link #commit(IToken)}, or handed to a caller that commits it.
+     * A token that is not committed can be discarded without any cleanup.
+     * The attempt is measured by the profiler of the sequence, if any, and recorded
+     * as a {@link TokenParseEvent} for the Java Flight Recorder.
      *
      * @param <T> the type of token
      * @param parent the parent composite token
@@ -464,6 +1166,58 @@ public final class Sequence implements Iterable<IToken<?>> {
      */
     public <T extends IToken<?>> T tryParse(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
 
+        TokenParseEvent event = new TokenParseEvent();
+        event.begin();
+        T token = null;
+        boolean cut = this.enterCuts(target);
+
+        try {
+            token = (this.profiler == null) ? this.tryParseTarget(parent, target) : this.tryParseProfiled(parent, target);
+            return token;
+        } finally {
+            this.exitCuts(target, cut, token != null);
+            event.emit(target, this, token);
+        }
+    }
+
+    /**
+     * Parses the input using the specified parser, measuring the attempt with the profiler.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the parsed token
+     * @throws GenericParseError if a parsing error occurs
+     */
+    private <T extends IToken<?>> T tryParseProfiled(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        this.profiler.enter(target);
+
+        try {
+            T token = this.tryParseTarget(parent, target);
+            this.profiler.success(token);
+            return token;
+        } catch (Throwable error) {
+            this.profiler.failure((error instanceof ParserError wrapper && wrapper.getCause() != null) ? wrapper.getCause().getClass() : error.getClass());
+            throw error;
+        }
+    }
+
+    /**
+     * Parses the input using the specified parser, as {@link #tryParse(ICompositeToken, IParser)}
+     * does once the attempt is measured.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the parsed token
+     * @throws GenericParseError if a parsing error occurs
+     */
+    private <T extends IToken<?>> T tryParseTarget(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        // A commit point must be passed on every parse, its target is memoized instead.
+        if (this.memo != null && !(target instanceof Cut<?>)) return this.tryParseMemo(parent, target);
+
         GenericParseError error;
 
         try {
@@ -477,8 +1231,52 @@ public final class Sequence implements Iterable<IToken<?>> {
         throw new ParserError(this, error, target);
     }
 
+    /**
+     * Parses the input using the specified parser, reusing the memoized result
+     * of the parser at the current index if there is one.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the parsed token
+     * @throws GenericParseError if a parsing error occurs
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends IToken<?>> T tryParseMemo(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        int index = this.getCurrentIndex();
+        Memo.Entry entry = this.memo.get(target, index);
+        GenericParseError cause;
+
+        if (entry == null || (!entry.isSuccess() && entry.error() == null)) {
+            try {
+                T token = target.parse(parent, this.copyRemainder());
+                this.memo.putSuccess(target, index, token);
+                return token;
+            } catch (GenericParseError err) {
+                this.memo.putFailure(target, index, err, this.cuts.cut);
+                cause = err;
+            }
+        } else if (entry.isSuccess()) {
+            T token = (T) entry.token();
+            if (token instanceof INodeToken<?> node) node.setParent(parent);
+            rerootAll(token);
+            return token;
+        } else {
+            // The commit points passed by the failure are passed again.
+            this.cuts.cut = entry.cut();
+            cause = entry.error();
+        }
+
+        if (cause instanceof OptionalNotFound err) throw err;
+
+        throw new ParserError(this, (this.isEof())?new EOFParseError(this):cause, target);
+    }
+
     /**
      * Tries to parse and fuse the specified parser, returns the token.
+     * The parse of the target of a Root is recorded as a {@link RootParseEvent}
+     * for the Java Flight Recorder.
      *
      * @param <T> the type of token
      * @param parent the parent composite token
@@ -489,6 +1287,33 @@ public final class Sequence implements Iterable<IToken<?>> {
      */
     public <T extends IToken<?>> T parse(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
 
+        if (!(parent instanceof IRootToken<?> root)) return this.parseTarget(parent, target);
+
+        RootParseEvent event = new RootParseEvent();
+        event.begin();
+
+        try {
+            T token = this.parseTarget(parent, target);
+            event.emit(root, target, this, token, null);
+            return token;
+        } catch (Throwable error) {
+            event.emit(root, target, this, null, error);
+            throw error;
+        }
+    }
+
+    /**
+     * Tries to parse and fuses the specified parser, as {@link #parse(ICompositeToken, IParser)}
+     * does for a parent that is not a Root.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the parsed token
+     * @throws BaseParseError if a parsing error occurs
+     */
+    private <T extends IToken<?>> T parseTarget(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
         T token;
 
         try {
@@ -496,15 +1321,26 @@ public final class Sequence implements Iterable<IToken<?>> {
         } catch (FailedTokenInterruption interruption) {
             token = this.onFail(parent, target, interruption);
         } catch (Interruption interruption) {
-            this.fusion(interruption.getToken());
+            this.fusion(interruption.takeToken());
             this.clearRemainder();
             throw interruption.getCause();
         }
 
-        this.fusion(token);
+        return this.commit(token);
 
-        return token;
+    }
 
+    /**
+     * Commits a token returned by {@link #tryParse(ICompositeToken, IParser)}
+     * by fusing it at the pointer.
+     *
+     * @param <T> the type of token
+     * @param token the speculative token to commit
+     * @return the committed token
+     */
+    public <T extends IToken<?>> T commit(T token) {
+        this.fusion(token);
+        return token;
     }
 
     /**
@@ -520,6 +1356,172 @@ public final class Sequence implements Iterable<IToken<?>> {
         this.next();
     }
 
+    /**
+     * Parses the input using the specified parser through the result protocol.
+     * <p>
+     * Like {@link #tryParse(ICompositeToken, IParser)}, the parse is speculative and leaves this
+     * sequence unchanged, but a parser that does not match returns a failure instead of throwing.
+     * A parser that cannot start with the current character is not attempted; the attempts
+     * are measured and recorded as in {@link #tryParse(ICompositeToken, IParser)}. In
+     * {@link Failures.Mode#FARTHEST} mode, a parser that does not match is reported to the
+     * farthest failure returned by {@link #getFailures()}.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the result of the parse
+     * @throws BaseParseError if the parse is interrupted
+     */
+    public <T extends IToken<?>> ParseResult<T> tryMatch(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        int current = this.getCurrentChar();
+        boolean farthest = this.errorMode == Failures.Mode.FARTHEST;
+
+        if (current >= 0 && !target.getFirst().contains(current) && !target.isNullable()) {
+            if (farthest) this.failures.expect(this.getCurrentIndex(), target);
+            return ParseResult.failure();
+        }
+
+        TokenParseEvent event = new TokenParseEvent();
+        event.begin();
+        ParseResult<T> result = null;
+        int reports = this.failures.getReports();
+        boolean cut = this.enterCuts(target);
+
+        try {
+            result = (this.profiler == null) ? this.tryMatchTarget(parent, target) : this.tryMatchProfiled(parent, target);
+            // Only the innermost parser that did not match is expected.
+            if (farthest && result.isFailure() && this.failures.getReports() == reports) this.failures.expect(this.getCurrentIndex(), target);
+            return result;
+        } finally {
+            this.exitCuts(target, cut, result != null && !result.isFailure());
+            event.emit(target, this, (result != null) ? result.getToken() : null);
+        }
+    }
+
+    /**
+     * Parses the input using the specified parser through the result protocol, measuring
+     * the attempt with the profiler.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the result of the parse
+     * @throws BaseParseError if the parse is interrupted
+     */
+    private <T extends IToken<?>> ParseResult<T> tryMatchProfiled(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        this.profiler.enter(target);
+
+        try {
+            ParseResult<T> result = this.tryMatchTarget(parent, target);
+            if (result.isSuccess()) this.profiler.success(result.getToken());
+            else this.profiler.failure(result.isAbsent() ? OptionalNotFound.class : ParseResult.class);
+            return result;
+        } catch (Throwable error) {
+            this.profiler.failure(error.getClass());
+            throw error;
+        }
+    }
+
+    /**
+     * Parses the input using the specified parser through the result protocol, as
+     * {@link #tryMatch(ICompositeToken, IParser)} does once the parser is attempted.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the result of the parse
+     * @throws BaseParseError if the parse is interrupted
+     */
+    private <T extends IToken<?>> ParseResult<T> tryMatchTarget(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        if (this.memo != null && !(target instanceof Cut<?>)) return this.tryMatchMemo(parent, target);
+
+        return target.match(parent, this.copyRemainder());
+    }
+
+    /**
+     * Parses the input using the specified parser through the result protocol, reusing the
+     * memoized result of the parser at the current index if there is one.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the result of the parse
+     * @throws BaseParseError if the parse is interrupted
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends IToken<?>> ParseResult<T> tryMatchMemo(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        int index = this.getCurrentIndex();
+        Memo.Entry entry = this.memo.get(target, index);
+
+        if (entry == null) {
+            ParseResult<T> result = target.match(parent, this.copyRemainder());
+            if (result.isSuccess()) this.memo.putSuccess(target, index, result.getToken());
+            else this.memo.putFailure(target, index, result.isAbsent(), this.cuts.cut);
+            return result;
+        }
+
+        if (entry.isSuccess()) {
+            T token = (T) entry.token();
+            if (token instanceof INodeToken<?> node) node.setParent(parent);
+            rerootAll(token);
+            return ParseResult.success(token);
+        }
+
+        // The commit points passed by the failure are passed again.
+        this.cuts.cut = entry.cut();
+
+        return entry.absent() ? ParseResult.absent() : ParseResult.failure();
+    }
+
+    /**
+     * Parses the input using the specified parser through the result protocol, and fuses the
+     * token if it matched. Interruptions are handled as in {@link #parse(ICompositeToken, IParser)}.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the result of the parse
+     * @throws BaseParseError if the parse is interrupted
+     */
+    public <T extends IToken<?>> ParseResult<T> match(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+
+        ParseResult<T> result;
+
+        try {
+            result = this.tryMatch(parent, target);
+        } catch (FailedTokenInterruption interruption) {
+            result = ParseResult.success(this.onFail(parent, target, interruption));
+        } catch (Interruption interruption) {
+            this.fusion(interruption.takeToken());
+            this.clearRemainder();
+            throw interruption.getCause();
+        }
+
+        if (result.isSuccess()) this.commit(result.getToken());
+
+        return result;
+    }
+
+    /**
+     * Parses the input using the specified parser through the result protocol, fuses the
+     * token and moves the pointer to the next token if it matched.
+     *
+     * @param <T> the type of token
+     * @param parent the parent composite token
+     * @param target the parser to use
+     * @return the result of the parse
+     * @throws BaseParseError if the parse is interrupted
+     */
+    public <T extends IToken<?>> ParseResult<T> matchAndStep(ICompositeToken<?> parent, IParser<T> target) throws BaseParseError {
+        ParseResult<T> result = this.match(parent, target);
+        if (result.isSuccess()) this.next();
+        return result;
+    }
+
     /**
      * Parses a character from the input sequence using the specified parent composite token and whitelist.
      *
@@ -531,15 +1533,18 @@ public final class Sequence implements Iterable<IToken<?>> {
         this.parseAndStep(parent, DefinedChar.parser(whitelist));
     }
 
+    @SuppressWarnings("unchecked")
     private <T extends IToken<?>> T onFail(ICompositeToken<?> parent, IParser<T> target, FailedTokenInterruption interruption) throws BaseParseError {
 
-        if (interruption.getError() instanceof UnexpectedTokenError) {
-            this.fusion(interruption.getToken());
+        IDummyToken token = interruption.takeToken();
+
+        if (token.getError() instanceof UnexpectedTokenError) {
+            this.fusion(token);
             this.next();
             return this.tryParse(parent, target);
         }
 
-        return interruption.getToken();
+        return (T) token;
 
     }
 
@@ -552,7 +1557,7 @@ public final class Sequence implements Iterable<IToken<?>> {
     @Override
     public boolean equals(Object o) {
         if (!(o instanceof Sequence sequence)) return false;
-        return Objects.equals(content, sequence.content);
+        return Objects.equals(this.asList(), sequence.asList());
     }
 
     /**
@@ -562,7 +1567,7 @@ public final class Sequence implements Iterable<IToken<?>> {
      */
     @Override
     public int hashCode() {
-        return Objects.hashCode(content);
+        return Objects.hashCode(this.asList());
     }
 
     /**
@@ -572,7 +1577,7 @@ public final class Sequence implements Iterable<IToken<?>> {
      */
     @Override
     public Iterator<IToken<?>> iterator() {
-        return this.content.iterator();
+        return this.asList().iterator();
     }
 
     /**
@@ -596,7 +1601,9 @@ public final class Sequence implements Iterable<IToken<?>> {
     }
 
     public String getRaw() {
-        return String.join("", this.content.stream().map(IToken::getRaw).toList());
+        StringBuilder builder = new StringBuilder();
+        for (IToken<?> token : this.head) builder.append(token.getRaw());
+        return builder.append(this.source.getRaw(this.tailStart, this.tailStart + this.getSize() - this.head.size())).toString();
     }
 
     @Override
@@ -604,4 +1611,15 @@ public final class Sequence implements Iterable<IToken<?>> {
         return "[" + Arrays.stream(this.getConsumed()).map(Object::toString).collect(Collectors.joining(", ")) +
                  " | " + Arrays.stream(this.getRemainder()).map(Object::toString).collect(Collectors.joining(", ")) + "]";
     }
+
+    /**
+     * The commit point of the attempt being parsed, shared by all the sequences derived from the same root.
+     */
+    private static final class Cuts {
+
+        /**
+         * Whether the attempt being parsed passed a commit point.
+         */
+        private boolean cut;
+    }
 }
@@ -0,0 +1,182 @@
+package com.vijie.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+
+/**
+ * An immutable prefix tree over a set of strings, matched against a sequence in a single walk.
+ * <p>
+ * A set of literals is compiled once into the tree, and a match reads the characters of the
+ * sequence from its pointer, without materializing their tokens, until no member can match
+ * further. The result is the index of the matched member, so that the caller can parse the
+ * literal of that member only.
+ */
+public final class Trie {
+
+    /**
+     * The member chosen when several members are prefixes of the input.
+     */
+    public enum Match {
+
+        /**
+         * The member declared first, as if the members were attempted in order.
+         */
+        FIRST,
+
+        /**
+         * The longest member.
+         */
+        LONGEST
+    }
+
+    /**
+     * The trees already built, by array of members. The arrays are weakly held, so that the
+     * tree of a grammar is released with it.
+     */
+    private static final Map<String[], Trie> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns the tree of an array of members.
+     * The tree is shared by the callers holding the same array, such as a constant of a token type.
+     *
+     * @param members the members of the tree
+     * @return the tree of the members
+     */
+    public static Trie of(String... members) {
+        return CACHE.computeIfAbsent(members, Trie::new);
+    }
+
+    /**
+     * The members, in declaration order.
+     */
+    private final String[] members;
+
+    /**
+     * The sorted characters leading to the children of each node.
+     */
+    private final char[][] keys;
+
+    /**
+     * The children of each node, in the order of their keys.
+     */
+    private final int[][] children;
+
+    /**
+     * The index of the first member ending at each node, or -1.
+     */
+    private final int[] terminals;
+
+    /**
+     * The index of the first member ending at each node or below it.
+     */
+    private final int[] lowest;
+
+    /**
+     * Compiles a tree from its members.
+     *
+     * @param members the members of the tree
+     */
+    private Trie(String[] members) {
+
+        List<TreeMap<Character, Integer>> nodes = new ArrayList<>();
+        List<Integer> terminals = new ArrayList<>();
+        nodes.add(new TreeMap<>());
+        terminals.add(-1);
+
+        for (int index = 0; index < members.length; index++) {
+            int node = 0;
+            for (char c : members[index].toCharArray()) {
+                Integer child = nodes.get(node).get(c);
+                if (child == null) {
+                    child = nodes.size();
+                    nodes.get(node).put(c, child);
+                    nodes.add(new TreeMap<>());
+                    terminals.add(-1);
+                }
+                node = child;
+            }
+            if (terminals.get(node) < 0) terminals.set(node, index);
+        }
+
+        this.members = members.clone();
+        this.keys = new char[nodes.size()][];
+        this.children = new int[nodes.size()][];
+        this.terminals = terminals.stream().mapToInt(Integer::intValue).toArray();
+        this.lowest = new int[nodes.size()];
+
+        for (int node = 0; node < nodes.size(); node++) {
+            TreeMap<Character, Integer> edges = nodes.get(node);
+            this.keys[node] = new char[edges.size()];
+            this.children[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                this.keys[node][i] = edge.getKey();
+                this.children[node][i++] = edge.getValue();
+            }
+        }
+
+        // Children are always created after their parent, so a reverse pass sees them first.
+        for (int node = nodes.size() - 1; node >= 0; node--) {
+            int low = (this.terminals[node] < 0) ? Integer.MAX_VALUE : this.terminals[node];
+            for (int child : this.children[node]) low = Math.min(low, this.lowest[child]);
+            this.lowest[node] = low;
+        }
+    }
+
+    /**
+     * Returns the members of the tree.
+     *
+     * @return the members, in declaration order
+     */
+    public String[] getMembers() {
+        return this.members.clone();
+    }
+
+    /**
+     * Returns the class of the first characters of the members.
+     *
+     * @return the first characters of the members
+     */
+    public CharClass getFirst() {
+        return CharClass.of(new String(this.keys[0]));
+    }
+
+    /**
+     * Finds the member matching the sequence at its pointer.
+     * The sequence is left unchanged.
+     *
+     * @param sequence the sequence to match
+     * @param match    the member to choose when several members match
+     * @return the index of the matched member, or -1 if no member matches
+     */
+    public int match(Sequence sequence, Match match) {
+
+        int node = 0;
+        int found = -1;
+
+        for (int offset = 0; ; offset++) {
+
+            int terminal = this.terminals[node];
+
+            if (terminal >= 0 && (match == Match.LONGEST || found < 0 || terminal < found)) found = terminal;
+
+            // No member below this node is declared before the one found.
+            if (match == Match.FIRST && found >= 0 && this.lowest[node] >= found) break;
+
+            int current = sequence.peekChar(offset);
+            if (current < 0) break;
+
+            int edge = Arrays.binarySearch(this.keys[node], (char) current);
+            if (edge < 0) break;
+
+            node = this.children[node][edge];
+        }
+
+        return found;
+    }
+}
@@ -52,9 +52,9 @@ public class Utils {
      * @return an array of class types of the given parameters
      */
     public static Class<?>[] inferParamsTypes(Object... params) {
-        return Arrays.stream(params)
-                .map(Object::getClass)
-                .toArray(Class<?>[]::new);
+        Class<?>[] types = new Class<?>[params.length];
+        for (int i = 0; i < params.length; i++) types[i] = params[i].getClass();
+        return types;
     }
 
     /**
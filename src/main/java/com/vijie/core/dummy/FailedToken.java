@@ -42,7 +42,7 @@ public class FailedToken<T extends ICompositeToken<?>> extends GenericDummyTarge
         }
 
         sequence.clearFrom();
-        if (sequence.getSize() == 0) throw new EOFInterrupter(sequence);
+        if (sequence.isEmpty()) throw new EOFInterrupter(sequence);
 
         this.sequence.clearFrom(sequence.getPointer());
         this.sequence.append(new Break(this, sequence.getEndIndex() - 1));
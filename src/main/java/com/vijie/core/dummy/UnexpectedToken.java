@@ -25,7 +25,7 @@ public class UnexpectedToken extends GenericDummyToken {
         this.sequence.find(this, this.syncTarget);
 
         this.sequence.clearFrom();
-        if (this.sequence.getSize() == 0) throw new EOFInterrupter(sequence);
+        if (this.sequence.isEmpty()) throw new EOFInterrupter(sequence);
 
     }
 
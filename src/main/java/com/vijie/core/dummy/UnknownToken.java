@@ -31,7 +31,7 @@ public class UnknownToken<T extends ICompositeToken<?>> extends GenericDummyTarg
         }
 
         this.sequence.clearFrom();
-        if (this.sequence.getSize() == 0) throw new EOFInterrupter(sequence);
+        if (this.sequence.isEmpty()) throw new EOFInterrupter(sequence);
 
     }
 
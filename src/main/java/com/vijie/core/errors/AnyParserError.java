@@ -23,7 +23,19 @@ public final class AnyParserError extends MultiParseError {
      * @param errors   the array of errors that occurred during parsing
      */
     public AnyParserError(Any<? extends ICompositeToken<?>> parser, Sequence sequence, ParserError[] errors) {
-        super(sequence, Factory.getTypes(parser.getTargets()), errors, "Could not parse %s".formatted(parser.getClass().getSimpleName()));
+        super(sequence, Factory.getTypes(parser.getTargets()), errors, () -> "Could not parse %s".formatted(parser.getClass().getSimpleName()));
+        this.parser = parser;
+    }
+
+    /**
+     * Constructs an `AnyParserError` from the failures of the alternatives.
+     *
+     * @param parser   The parser instance that attempted to parse the input.
+     * @param sequence the sequence where the parsing errors occurred
+     * @param failures the failures of the alternatives
+     */
+    public AnyParserError(Any<? extends ICompositeToken<?>> parser, Sequence sequence, Failures failures) {
+        super(sequence, Factory.getTypes(parser.getTargets()), failures, () -> "Could not parse %s".formatted(parser.getClass().getSimpleName()));
         this.parser = parser;
     }
 
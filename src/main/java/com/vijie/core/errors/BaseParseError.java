@@ -2,16 +2,46 @@ package com.vijie.core.errors;
 
 import com.vijie.core.Sequence;
 
+import java.util.function.Supplier;
+
 /**
  * Represents a base class for parse errors that occur during parsing.
  * This class extends `Exception` and provides additional context
  * about the sequence where the error occurred.
+ * <p>
+ * An error does not keep the sequence it failed on, which is usually a copy of the remainder
+ * of the input: the start and current indexes of the sequence are captured when the error is
+ * built, and the sequence can be recovered from the root with {@link #getSequence(Sequence)}.
+ * <p>
+ * Parse errors are thrown on every failed alternative while backtracking, so they do not
+ * capture a stack trace, and their message can be given as a supplier that is only called
+ * when the message is requested.
  */
 public abstract class BaseParseError extends Exception {
     /**
-     * The sequence where the error occurred.
+     * The index of the first character of the sequence where the error occurred.
+     */
+    protected final int startIndex;
+
+    /**
+     * The current index in the sequence where the error occurred.
+     */
+    protected final int index;
+
+    /**
+     * Whether the sequence where the error occurred was at its end.
+     */
+    protected final boolean eof;
+
+    /**
+     * The detail message, or null if it is not built yet.
      */
-    protected final Sequence sequence;
+    private String message;
+
+    /**
+     * The supplier of the detail message, or null once the message is built.
+     */
+    private Supplier<String> messageSupplier;
 
     /**
      * Constructs a new `BaseParseError` with the specified sequence and message.
@@ -20,8 +50,7 @@ public abstract class BaseParseError extends Exception {
      * @param message  the detail message
      */
     public BaseParseError(Sequence sequence, String message) {
-        super(message);
-        this.sequence = sequence;
+        this(sequence, message, null);
     }
 
     /**
@@ -32,17 +61,70 @@ public abstract class BaseParseError extends Exception {
      * @param cause    the cause of the error
      */
     public BaseParseError(Sequence sequence, String message, Throwable cause) {
-        super(message, cause);
-        this.sequence = sequence;
+        super(null, cause, false, false);
+        this.index = sequence.getCurrentIndex();
+        this.startIndex = sequence.isEmpty() ? this.index : sequence.getStartIndex();
+        this.eof = sequence.isEof();
+        this.message = message;
+    }
+
+    /**
+     * Constructs a new `BaseParseError` with the specified sequence and a lazily built message.
+     *
+     * @param sequence the sequence where the error occurred
+     * @param message  the supplier of the detail message
+     */
+    public BaseParseError(Sequence sequence, Supplier<String> message) {
+        this(sequence, message, null);
+    }
+
+    /**
+     * Constructs a new `BaseParseError` with the specified sequence, cause, and a lazily built message.
+     *
+     * @param sequence the sequence where the error occurred
+     * @param message  the supplier of the detail message
+     * @param cause    the cause of the error
+     */
+    public BaseParseError(Sequence sequence, Supplier<String> message, Throwable cause) {
+        super(null, cause, false, false);
+        this.index = sequence.getCurrentIndex();
+        this.startIndex = sequence.isEmpty() ? this.index : sequence.getStartIndex();
+        this.eof = sequence.isEof();
+        this.messageSupplier = message;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A message given as a supplier is built on the first request.
+     */
+    @Override
+    public String getMessage() {
+        if (this.messageSupplier != null) {
+            this.message = this.messageSupplier.get();
+            this.messageSupplier = null;
+        }
+        return this.message;
+    }
+
+    /**
+     * Recovers the sequence where the error occurred from the sequence of the root, as a view
+     * over the input from the start index of the error with the pointer at its current index.
+     *
+     * @param root the sequence of the root that was parsed
+     * @return a view over the input where the error occurred
+     */
+    public Sequence getSequence(Sequence root) {
+        return root.getView(this.startIndex, this.index);
     }
 
     /**
-     * Retrieves the sequence where the error occurred.
+     * Returns the index of the first character of the sequence where the error occurred.
      *
-     * @return the sequence associated with this error
+     * @return the start index
      */
-    public Sequence getSequence() {
-        return sequence;
+    public int getStartIndex() {
+        return this.startIndex;
     }
 
     /**
@@ -51,7 +133,7 @@ public abstract class BaseParseError extends Exception {
      * @return the current index
      */
     public int getIndex() {
-        return this.sequence.getCurrentIndex();
+        return this.index;
     }
 
 }
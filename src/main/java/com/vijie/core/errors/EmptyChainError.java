@@ -18,7 +18,18 @@ public final class EmptyChainError extends MultiParseError {
      * @param errors The array of specific parse errors encountered.
      */
     public EmptyChainError(Sequence sequence, List<Class<? extends IToken<?>>> types, ParserError[] errors) {
-        super(sequence, types, errors, "Could not parse at least one target");
+        super(sequence, types, errors, () -> "Could not parse at least one target");
+    }
+
+    /**
+     * Constructs an EmptyChainError from the failures of the targets.
+     *
+     * @param sequence The sequence where the error occurred.
+     * @param types The list of target types that were expected but not parsed.
+     * @param failures The failures of the targets.
+     */
+    public EmptyChainError(Sequence sequence, List<Class<? extends IToken<?>>> types, Failures failures) {
+        super(sequence, types, failures, () -> "Could not parse at least one target");
     }
 
 }
@@ -3,24 +3,26 @@ package com.vijie.core.errors;
 import com.vijie.core.Sequence;
 import com.vijie.core.interfaces.IToken;
 
+import java.util.function.Supplier;
+
 /**
  * Represents an error that occurs when an expected glyph is not found.
+ * <p>
+ * The token found is not kept, as it may hold the sequence it was parsed on: its type and
+ * length are kept instead, and the token can be recovered from the root with
+ * {@link #getToken(Sequence)}.
  */
 public final class ExpectedGlyphError extends GenericParseError {
 
     /**
-     * The token that caused the error.
+     * The type of the token that caused the error.
      */
-    private final IToken<?> token;
+    private final Class<?> tokenType;
 
     /**
-     * Returns the token that caused the error.
-     *
-     * @return the token that caused the error
+     * The length of the token that caused the error.
      */
-    public IToken<?> getToken() {
-        return this.token;
-    }
+    private final int tokenLength;
 
     /**
      * Constructs a new ExpectedGlyphError with the specified token and sequence.
@@ -29,7 +31,48 @@ public final class ExpectedGlyphError extends GenericParseError {
      * @param token    the token that caused the error
      */
     public ExpectedGlyphError(Sequence sequence, IToken<?> token) {
-        super(sequence, "Expected Char, found: %s".formatted(token));
-        this.token = token;
+        super(sequence, message(token.getClass(), token.getIndex(), token.getLength()));
+        this.tokenType = token.getClass();
+        this.tokenLength = token.getLength();
+    }
+
+    /**
+     * Builds the message of the error from the figures of the token only.
+     *
+     * @param type   the type of the token
+     * @param index  the index of the token
+     * @param length the length of the token
+     * @return the supplier of the message
+     */
+    private static Supplier<String> message(Class<?> type, int index, int length) {
+        return () -> "Expected Char, found: %s@%d+%d".formatted(type.getSimpleName(), index, length);
+    }
+
+    /**
+     * Recovers the token that caused the error from the sequence of the root.
+     *
+     * @param root the sequence of the root that was parsed
+     * @return the token that caused the error
+     */
+    public IToken<?> getToken(Sequence root) {
+        return this.getSequence(root).getCurrent();
+    }
+
+    /**
+     * Returns the type of the token that caused the error.
+     *
+     * @return the type of the token
+     */
+    public Class<?> getTokenType() {
+        return this.tokenType;
+    }
+
+    /**
+     * Returns the length of the token that caused the error.
+     *
+     * @return the length of the token
+     */
+    public int getTokenLength() {
+        return this.tokenLength;
     }
 }
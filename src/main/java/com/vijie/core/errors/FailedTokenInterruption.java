@@ -1,31 +1,43 @@
 package com.vijie.core.errors;
 
 import com.vijie.core.interfaces.IDummyToken;
-import com.vijie.core.interfaces.IToken;
 
 public class FailedTokenInterruption extends RuntimeException {
 
-    private final IDummyToken failedToken;
+    private IDummyToken failedToken;
+
+    private final Class<?> tokenType;
+
+    private final int index;
 
     public FailedTokenInterruption(IDummyToken failedToken) {
-        super("Saved token: " + failedToken);
+        super(null, null, false, false);
         this.failedToken = failedToken;
+        this.tokenType = failedToken.getClass();
+        this.index = failedToken.getIndex();
     }
 
-    public GenericFailedTokenError getError() {
-        return this.failedToken.getError();
-    }
-
-    public IDummyToken getFailedToken() {
-        return this.failedToken;
+    @Override
+    public String getMessage() {
+        return "Saved token: %s@%d".formatted(this.tokenType.getSimpleName(), this.index);
     }
 
-    public <T extends IToken<?>> T getToken() {
-        return (T) this.failedToken;
+    /**
+     * Hands over the saved token to the sequence that catches the interruption,
+     * so that the interruption does not hold it once handled.
+     *
+     * @return the saved token
+     * @throws IllegalStateException if the token was already taken
+     */
+    public IDummyToken takeToken() {
+        if (this.failedToken == null) throw new IllegalStateException("The token of %s was already taken".formatted(this));
+        IDummyToken failedToken = this.failedToken;
+        this.failedToken = null;
+        return failedToken;
     }
 
     @Override
     public String toString() {
-        return "FailedTokenInterruption(%s, %s)".formatted(this.failedToken, failedToken.getError());
+        return "FailedTokenInterruption(%s@%d)".formatted(this.tokenType.getSimpleName(), this.index);
     }
 }
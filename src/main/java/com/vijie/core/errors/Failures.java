@@ -0,0 +1,183 @@
+package com.vijie.core.errors;
+
+import com.vijie.core.interfaces.IParser;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Collects the errors of the alternatives of a choice that did not match.
+ * <p>
+ * The collector always tracks the farthest index at which an alternative failed, and the
+ * parsers expected at that index, deduplicated and bounded to {@link #MAX_EXPECTED}.
+ * In {@link Mode#TREE} mode, it also keeps every error, so that the full error tree of
+ * the choice can be inspected; in {@link Mode#FARTHEST} mode the errors are dropped once
+ * they are reported.
+ */
+public final class Failures {
+
+    /**
+     * How the errors of the alternatives of a choice are reported.
+     */
+    public enum Mode {
+
+        /**
+         * Only the farthest failure and its expected parsers are kept, an opt-in
+         * for parses that do not inspect the errors of the alternatives.
+         */
+        FARTHEST,
+
+        /**
+         * Every error is kept, the default.
+         */
+        TREE
+    }
+
+    /**
+     * The maximum number of expected parsers kept.
+     */
+    public static final int MAX_EXPECTED = 16;
+
+    /**
+     * The errors of the alternatives, or null in {@link Mode#FARTHEST} mode.
+     */
+    private final List<ParserError> errors;
+
+    /**
+     * The parsers expected at the farthest index.
+     */
+    private final Set<IParser<?>> expected = new LinkedHashSet<>();
+
+    /**
+     * The farthest index at which an alternative failed, or -1 if none failed.
+     */
+    private int index = -1;
+
+    /**
+     * The number of failures reported, farther or not.
+     */
+    private int reports;
+
+    /**
+     * Constructs an empty collector.
+     *
+     * @param mode the reporting mode
+     */
+    public Failures(Mode mode) {
+        this.errors = (mode == Mode.TREE) ? new ArrayList<>() : null;
+    }
+
+    /**
+     * Constructs a copy of a collector.
+     *
+     * @param failures the collector to copy
+     */
+    public Failures(Failures failures) {
+        this.errors = (failures.errors != null) ? new ArrayList<>(failures.errors) : null;
+        this.expected.addAll(failures.expected);
+        this.index = failures.index;
+        this.reports = failures.reports;
+    }
+
+    /**
+     * Constructs a collector keeping the given errors.
+     *
+     * @param errors the errors of the alternatives
+     */
+    public Failures(ParserError[] errors) {
+        this(Mode.TREE);
+        for (ParserError error : errors) this.add(error);
+    }
+
+    /**
+     * Reports the error of an alternative.
+     * The expected parser is the innermost parser of the error chain, unless the chain
+     * ends with the error of a nested choice, whose farthest failure is merged instead.
+     *
+     * @param error the error of the alternative
+     */
+    public void add(ParserError error) {
+
+        if (this.errors != null) this.errors.add(error);
+
+        GenericParseError source = error;
+        IParser<?> parser = null;
+
+        while (source instanceof ParserError wrapper && wrapper.getCause() != null) {
+            parser = wrapper.getParser();
+            source = wrapper.getCause();
+        }
+
+        if (source instanceof MultiParseError nested && nested.getFailures().getIndex() >= 0) {
+            Failures failures = nested.getFailures();
+            for (IParser<?> other : failures.expected) this.expect(failures.index, other);
+        } else {
+            this.expect(source.getIndex(), parser);
+        }
+    }
+
+    /**
+     * Reports a parser that failed at an index without building its error.
+     *
+     * @param index  the index of the failure
+     * @param parser the expected parser, or null if unknown
+     */
+    public void expect(int index, IParser<?> parser) {
+
+        this.reports++;
+
+        if (index < this.index) return;
+
+        if (index > this.index) {
+            this.index = index;
+            this.expected.clear();
+        }
+
+        if (parser != null && this.expected.size() < MAX_EXPECTED) this.expected.add(parser);
+    }
+
+    /**
+     * Returns the errors of the alternatives.
+     *
+     * @return the errors, or an empty array in {@link Mode#FARTHEST} mode
+     */
+    public ParserError[] getErrors() {
+        if (this.errors == null) return new ParserError[0];
+        return this.errors.toArray(ParserError[]::new);
+    }
+
+    /**
+     * Returns the farthest index at which an alternative failed.
+     *
+     * @return the farthest index, or -1 if no failure was reported
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the number of failures reported so far, farther or not.
+     * A parser that fails without a report from its nested parsers is the innermost failure.
+     *
+     * @return the number of failures reported
+     */
+    public int getReports() {
+        return this.reports;
+    }
+
+    /**
+     * Returns the parsers expected at the farthest index, in the order they were reported.
+     *
+     * @return the expected parsers
+     */
+    public List<IParser<?>> getExpected() {
+        return new ArrayList<>(this.expected);
+    }
+
+    @Override
+    public String toString() {
+        return "Expected %s @ %s".formatted(this.expected, this.index);
+    }
+}
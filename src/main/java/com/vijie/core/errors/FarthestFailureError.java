@@ -0,0 +1,26 @@
+package com.vijie.core.errors;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+
+import java.util.List;
+
+/**
+ * Represents an error that occurs when a parser did not match without building its error.
+ * The farthest failure recorded during the parse is given instead of the errors of the parser.
+ */
+public final class FarthestFailureError extends MultiParseError {
+
+    /**
+     * Constructs a FarthestFailureError.
+     *
+     * @param sequence the sequence where the parser was attempted
+     * @param parser   the parser that did not match
+     * @param failures the farthest failure recorded during the parse
+     */
+    public FarthestFailureError(Sequence sequence, IParser<?> parser, Failures failures) {
+        super(sequence, List.<Class<? extends IToken<?>>>of(parser.getType()), failures, () -> "Could not match '%s'".formatted(parser));
+    }
+
+}
@@ -10,7 +10,7 @@ public abstract class GenericFailedTokenError extends BaseParseError {
 
 
     public GenericFailedTokenError(Sequence sequence, IDummyToken failedToken) {
-        super(sequence, failedToken.getInterrupter().getMessage(), failedToken.getInterrupter());
+        super(sequence, failedToken.getInterrupter()::getMessage, failedToken.getInterrupter());
         this.failedToken = failedToken;
     }
 
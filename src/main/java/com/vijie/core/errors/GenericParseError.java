@@ -2,6 +2,7 @@ package com.vijie.core.errors;
 
 import com.vijie.core.Sequence;
 
+import java.util.function.Supplier;
 
 /**
  * Represents a generic parse error that extends the base parse error functionality.
@@ -10,7 +11,7 @@ import com.vijie.core.Sequence;
 public abstract class GenericParseError extends BaseParseError {
 
     /**
-     * The depth of the error in the error chain.
+     * The depth of the error when it is at the top of the error chain.
      */
     protected int depth;
 
@@ -22,7 +23,7 @@ public abstract class GenericParseError extends BaseParseError {
      */
     public GenericParseError(Sequence sequence, String message) {
         super(sequence, message);
-        this.setDepth(0);
+        this.depth = 0;
     }
 
     /**
@@ -34,20 +35,47 @@ public abstract class GenericParseError extends BaseParseError {
      */
     public GenericParseError(Sequence sequence, String message, GenericParseError cause) {
         super(sequence, message, cause);
-        this.setDepth(1);
+        this.depth = 1;
     }
 
     /**
-     * Returns the depth of the error in the error chain.
+     * Constructs a new GenericParseError with the specified sequence and a lazily built message.
+     *
+     * @param sequence the sequence where the error occurred
+     * @param message  the supplier of the detail message
+     */
+    public GenericParseError(Sequence sequence, Supplier<String> message) {
+        super(sequence, message);
+        this.depth = 0;
+    }
+
+    /**
+     * Constructs a new GenericParseError with the specified sequence, cause, and a lazily built message.
+     *
+     * @param sequence the sequence where the error occurred
+     * @param message  the supplier of the detail message
+     * @param cause    the cause of the error
+     */
+    public GenericParseError(Sequence sequence, Supplier<String> message, GenericParseError cause) {
+        super(sequence, message, cause);
+        this.depth = 1;
+    }
+
+    /**
+     * Returns the depth of the error when it is at the top of the error chain.
+     * <p>
+     * An error does not know the errors wrapping it, as a memoized error may be wrapped in
+     * several chains: the depth of an error inside a chain is computed while printing the
+     * traceback, see {@link #getTraceback(int)}.
      *
      * @return the depth of the error
      */
     public int getDepth() {
-        return depth;
+        return this.depth;
     }
 
     /**
-     * Sets the depth of the error in the error chain.
+     * Sets the depth of the error when it is at the top of the error chain.
      *
      * @param depth the depth to set
      */
@@ -69,13 +97,14 @@ public abstract class GenericParseError extends BaseParseError {
      * Checks if the error is caused by reaching the end of the file (EOF).
      */
     public boolean isEof() {
-        return this.sequence.isEof();
+        return this.eof;
     }
 
     /**
      * Returns a string representation of the error chain with traceback information.
+     * Each error prints the errors it wraps one level deeper.
      *
-     * @param d the depth for formatting
+     * @param d the depth of the error in the chain being printed
      * @return the string representation of the error chain
      */
     public String getTraceback(int d) {
@@ -2,19 +2,33 @@ package com.vijie.core.errors;
 
 import com.vijie.core.Sequence;
 import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IToken;
+
+import java.util.function.Supplier;
 
 
 public class GenericUnparsedError_ extends BaseParseError {
 
-    protected final ICompositeToken<?> token;
+    protected final Class<?> tokenType;
+
+    private final int length;
 
     public GenericUnparsedError_(Sequence sequence, ICompositeToken<?> token, GenericInterrupter interrupter) {
-        super(sequence, "Could not parse token \"%s\": %s".formatted(token, interrupter.getMessage()), interrupter);
-        this.token = token;
+        super(sequence, message(token.getClass(), interrupter), interrupter);
+        this.tokenType = token.getClass();
+        this.length = sequence.getLength();
+    }
+
+    private static Supplier<String> message(Class<?> tokenType, GenericInterrupter interrupter) {
+        return () -> "Could not parse token \"%s\": %s".formatted(tokenType.getSimpleName(), interrupter.getMessage());
+    }
+
+    public IToken<?> getToken(Sequence root) {
+        return root.getAt(this.startIndex);
     }
 
-    public ICompositeToken<?> getToken() {
-        return this.token;
+    public Class<?> getTokenType() {
+        return this.tokenType;
     }
 
     @Override
@@ -24,11 +38,11 @@ public class GenericUnparsedError_ extends BaseParseError {
 
     @Override
     public int getIndex() {
-        return this.getSequence().getStartIndex();
+        return this.startIndex;
     }
 
     public int getLength() {
-        return this.getSequence().getLength();
+        return this.length;
     }
 
 }
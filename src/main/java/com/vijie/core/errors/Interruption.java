@@ -5,13 +5,28 @@ import com.vijie.core.interfaces.IToken;
 /**
  * Represents an interrupter.
  * This class is used to handle interruptions with an associated token.
+ * <p>
+ * The token is handed over once to the sequence that catches the interruption with
+ * {@link #takeToken()}, so that an interruption kept after it was handled does not hold the
+ * token, nor the input it was parsed on. The type and index of the token are kept for the
+ * message.
  */
 public final class Interruption extends RuntimeException {
 
     /**
-     * The token associated with this interrupter.
+     * The token associated with this interrupter, or null once it is taken.
      */
-    private final IToken<?> token;
+    private IToken<?> token;
+
+    /**
+     * The type of the token associated with this interrupter.
+     */
+    private final Class<?> tokenType;
+
+    /**
+     * The index of the token associated with this interrupter.
+     */
+    private final int index;
 
     /**
      * Constructs a new Interruption instance.
@@ -20,8 +35,10 @@ public final class Interruption extends RuntimeException {
      * @param token    The token associated with this interrupter.
      */
     public Interruption(GenericInterrupter cause, IToken<?> token) {
-        super(cause.getMessage(), cause);
+        super(null, cause, false, false);
         this.token = token;
+        this.tokenType = token.getClass();
+        this.index = token.getIndex();
     }
 
     /**
@@ -34,17 +51,49 @@ public final class Interruption extends RuntimeException {
     }
 
     /**
-     * Retrieves the token associated with this interrupter.
+     * {@inheritDoc}
+     * <p>
+     * The message is the one of the cause.
+     */
+    @Override
+    public String getMessage() {
+        return this.getCause().getMessage();
+    }
+
+    /**
+     * Hands over the token associated with this interrupter, which is no longer kept.
      *
      * @return The token associated with this interrupter.
+     * @throws IllegalStateException if the token was already taken
      */
     @SuppressWarnings("unchecked")
-    public <T extends IToken<?>> T getToken() {
-        return (T) this.token;
+    public <T extends IToken<?>> T takeToken() {
+        if (this.token == null) throw new IllegalStateException("The token of %s was already taken".formatted(this));
+        IToken<?> token = this.token;
+        this.token = null;
+        return (T) token;
+    }
+
+    /**
+     * Retrieves the type of the token associated with this interrupter.
+     *
+     * @return The type of the token.
+     */
+    public Class<?> getTokenType() {
+        return this.tokenType;
+    }
+
+    /**
+     * Retrieves the index of the token associated with this interrupter.
+     *
+     * @return The index of the token.
+     */
+    public int getIndex() {
+        return this.index;
     }
 
     @Override
     public String toString() {
-        return "Interruption(%s(\"%s\"), %s)".formatted(this.getCause().getClass().getSimpleName(), this.getCause().getMessage(), this.token);
+        return "Interruption(%s(\"%s\"), %s@%d)".formatted(this.getCause().getClass().getSimpleName(), this.getCause().getMessage(), this.tokenType.getSimpleName(), this.index);
     }
 }
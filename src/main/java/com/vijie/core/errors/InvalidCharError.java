@@ -27,7 +27,7 @@ public final class InvalidCharError extends GenericParseError {
      * @param actual   the actual character found
      */
     public InvalidCharError(Sequence sequence, String expected, Character actual) {
-        super(sequence, "Expected char(s) \"%s\", found: '%s'".formatted(escapeJava(expected), escapeJava(actual.toString())));
+        super(sequence, () -> "Expected char(s) \"%s\", found: '%s'".formatted(escapeJava(expected), escapeJava(actual.toString())));
         this.actual = actual;
         this.expected = expected;
     }
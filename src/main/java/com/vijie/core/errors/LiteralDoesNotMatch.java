@@ -20,9 +20,9 @@ public final class LiteralDoesNotMatch extends GenericParseError {
      * @param value    The actual value that was parsed.
      */
     public LiteralDoesNotMatch(Sequence sequence, String literal, String value) {
-        super(sequence, String.format("Content does not match literal '%s': '%s'", literal, escapeJava((value.length() <= 15)?value:(value.substring(0, 15) + "..."))));
+        super(sequence, () -> "Content does not match literal '%s': '%s'".formatted(literal, escapeJava((value.length() <= 15)?value:(value.substring(0, 15) + "..."))));
         this.literal = literal;
-        this.value = escapeJava((value.length() <= 15)?value:(value.substring(0, 15) + "..."));
+        this.value = (value.length() <= 15)?value:(value.substring(0, 15) + "...");
     }
 
     /**
@@ -40,7 +40,7 @@ public final class LiteralDoesNotMatch extends GenericParseError {
      * @return The actual value that was parsed.
      */
     public String getValue() {
-        return this.value;
+        return escapeJava(this.value);
     }
 
 }
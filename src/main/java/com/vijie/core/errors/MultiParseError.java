@@ -5,6 +5,7 @@ import com.vijie.core.interfaces.IToken;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Represents an error that occurs when none of the specified types can be parsed.
@@ -21,6 +22,11 @@ public abstract class MultiParseError extends GenericParseError {
      */
     private final ParserError[] errors;
 
+    /**
+     * The failures of the alternatives.
+     */
+    private final Failures failures;
+
     /**
      * Constructs an `MultiParseError` with a message, a list of types, an array of errors, and a sequence.
      *
@@ -30,10 +36,34 @@ public abstract class MultiParseError extends GenericParseError {
      * @param message  the error message
      */
     public MultiParseError(Sequence sequence, List<Class<? extends IToken<?>>> types, ParserError[] errors, String message) {
+        this(sequence, types, errors, () -> message);
+    }
+
+    /**
+     * Constructs an `MultiParseError` with a lazily built message, a list of types, an array of errors, and a sequence.
+     *
+     * @param sequence the sequence where the parsing errors occurred
+     * @param types    the list of types that were attempted to be parsed
+     * @param errors   the array of errors that occurred during parsing
+     * @param message  the supplier of the error message, called when the message is requested
+     */
+    public MultiParseError(Sequence sequence, List<Class<? extends IToken<?>>> types, ParserError[] errors, Supplier<String> message) {
+        this(sequence, types, new Failures(errors), message);
+    }
+
+    /**
+     * Constructs an `MultiParseError` with a lazily built message, a list of types, the failures of the alternatives, and a sequence.
+     *
+     * @param sequence the sequence where the parsing errors occurred
+     * @param types    the list of types that were attempted to be parsed
+     * @param failures the failures of the alternatives
+     * @param message  the supplier of the error message, called when the message is requested
+     */
+    public MultiParseError(Sequence sequence, List<Class<? extends IToken<?>>> types, Failures failures, Supplier<String> message) {
         super(sequence, message);
         this.types = types;
-        this.errors = errors;
-        Arrays.stream(this.errors).forEach(e -> e.setDepth(depth + 1));
+        this.failures = failures;
+        this.errors = failures.getErrors();
     }
 
     /**
@@ -45,6 +75,16 @@ public abstract class MultiParseError extends GenericParseError {
         return this.errors;
     }
 
+    /**
+     * Retrieves the failures of the alternatives, with the farthest index at which they failed
+     * and the parsers expected there.
+     *
+     * @return the failures of the alternatives
+     */
+    public Failures getFailures() {
+        return this.failures;
+    }
+
     /**
      * Retrieves the list of types that were attempted to be parsed.
      *
@@ -56,10 +96,15 @@ public abstract class MultiParseError extends GenericParseError {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * Without the errors of the alternatives, the farthest failure is given instead.
      */
     @Override
     public String getTraceback(int d) {
         String tab = "\n%s".formatted("\t".repeat(d));
+        if (this.errors.length == 0 && this.failures.getIndex() >= 0) {
+            return "%s%s%s".formatted(super.getTraceback(d), tab, this.failures);
+        }
         String errors = tab + String.join(tab, Arrays.stream(this.errors).map(e -> e.getTraceback(d + 1)).toArray(String[]::new));
         return "%s%s".formatted(super.getTraceback(d), errors
         );
@@ -8,7 +8,7 @@ public class NotFoundError extends GenericParseError {
     private final IParser<?> target;
 
     public NotFoundError(Sequence sequence, IParser<?> target) {
-        super(sequence, "Target not found: " + target.toString());
+        super(sequence, () -> "Target not found: " + target);
         this.target = target;
     }
 
@@ -31,7 +31,8 @@ public class ParserError extends GenericParseError {
      * @param parser   the parser that caused the error
      */
     public ParserError(Sequence sequence, GenericParseError cause, IParser<?> parser) {
-        this(sequence, cause, parser, String.format("Could not parse '%s'", parser));
+        super(sequence, () -> "Could not parse '%s'".formatted(parser), cause);
+        this.parser = parser;
     }
 
     /**
@@ -53,17 +54,6 @@ public class ParserError extends GenericParseError {
         return this.getSource().getClass().isAssignableFrom(type);
     }
 
-    /**
-     * Sets the depth of the error in the error chain.
-     *
-     * @param depth the depth to set
-     */
-    @Override
-    public void setDepth(int depth) {
-        super.setDepth(depth);
-        this.getCause().setDepth(depth + 1);
-    }
-
     /**
      * Returns the previous error in the error chain.
      *
@@ -4,6 +4,7 @@ import com.vijie.core.interfaces.IToken;
 import com.vijie.core.tokens.Union;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Represents an error that occurs when none of the specified types can be parsed.
@@ -11,9 +12,10 @@ import java.util.List;
 public final class UnionError extends MultiParseError {
 
     /**
-     * The token instance that attempted to parse the input.
+     * The type of the union that attempted to parse the input.
+     * The union is not kept, as it holds the sequence it was parsed on.
      */
-    private final Union<?, ?> token;
+    private final Class<?> unionType;
 
     /**
      * Constructs a new UnionError instance.
@@ -23,20 +25,39 @@ public final class UnionError extends MultiParseError {
      * @param errors the array of errors that occurred during parsing
      */
     public UnionError(Union<?, ?> token, List<Class<? extends IToken<?>>> types, ParserError[] errors) {
-        super(token.getSequence(), types, errors, "Could not parse %s".formatted(token.getClass().getSimpleName()));
-        this.token = token;
+        super(token.getSequence(), types, errors, message(token.getClass()));
+        this.unionType = token.getClass();
     }
 
     /**
-     * Retrieves the token associated with this error.
+     * Constructs a new UnionError instance from the failures of the alternatives.
      *
-     * @param <T> the type of the token, which extends Union
-     * @return the token cast to the specified type
-     * @throws ClassCastException if the token cannot be cast to the specified type
+     * @param token    the Union token that attempted to parse the input
+     * @param types    the list of types that were attempted to be parsed
+     * @param failures the failures of the alternatives
      */
-    @SuppressWarnings("unchecked")
-    public <T extends Union<?, ?>> T getToken() {
-        return (T) this.token;
+    public UnionError(Union<?, ?> token, List<Class<? extends IToken<?>>> types, Failures failures) {
+        super(token.getSequence(), types, failures, message(token.getClass()));
+        this.unionType = token.getClass();
+    }
+
+    /**
+     * Builds the message of the error from the type of the union only.
+     *
+     * @param unionType the type of the union
+     * @return the supplier of the message
+     */
+    private static Supplier<String> message(Class<?> unionType) {
+        return () -> "Could not parse %s".formatted(unionType.getSimpleName());
+    }
+
+    /**
+     * Retrieves the type of the union that attempted to parse the input.
+     *
+     * @return the type of the union
+     */
+    public Class<?> getUnionType() {
+        return this.unionType;
     }
 
 }
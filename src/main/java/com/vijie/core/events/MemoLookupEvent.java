@@ -0,0 +1,55 @@
+package com.vijie.core.events;
+
+import com.vijie.core.interfaces.IParser;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Java Flight Recorder event recording a lookup in the {@link com.vijie.core.Memo}.
+ * <p>
+ * A parse with memoization looks up about every parser it attempts, so the event is
+ * disabled by default and must be enabled in the recording settings.
+ */
+@Name("com.vijie.MemoLookup")
+@Label("Memo Lookup")
+@Category({"Vijie", "Parse"})
+@Description("Lookup of the result of a parser in the memoization table")
+@Enabled(false)
+@StackTrace(false)
+public final class MemoLookupEvent extends Event {
+
+    @Label("Parser")
+    public String parser;
+
+    @Label("Token Class")
+    public String tokenClass;
+
+    @Label("Offset")
+    public int offset;
+
+    @Label("Hit")
+    public boolean hit;
+
+    /**
+     * Commits the event, if it is enabled.
+     *
+     * @param parser the parser looked up
+     * @param offset the index looked up
+     * @param hit    whether a result was found
+     */
+    public void emit(IParser<?> parser, int offset, boolean hit) {
+
+        if (!this.shouldCommit()) return;
+
+        this.parser = parser.toString();
+        this.tokenClass = parser.getType().getName();
+        this.offset = offset;
+        this.hit = hit;
+        this.commit();
+    }
+}
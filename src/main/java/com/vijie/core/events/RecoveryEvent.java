@@ -0,0 +1,59 @@
+package com.vijie.core.events;
+
+import com.vijie.core.interfaces.IDummyToken;
+import com.vijie.core.interfaces.IParser;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning an error recovery episode of a
+ * {@link com.vijie.core.parsers.Savior}: the scan of the input by a dummy token,
+ * such as a {@link com.vijie.core.dummy.FailedToken}, an {@link com.vijie.core.dummy.UnknownToken}
+ * or a {@link com.vijie.core.dummy.MissingToken}.
+ */
+@Name("com.vijie.Recovery")
+@Label("Recovery")
+@Category({"Vijie", "Parse"})
+@Description("Error recovery of a Savior parser")
+public final class RecoveryEvent extends Event {
+
+    @Label("Token Class")
+    @Description("Class of the dummy token standing for the input that could not be parsed")
+    public String tokenClass;
+
+    @Label("Target")
+    @Description("Parser that could not be parsed")
+    public String target;
+
+    @Label("Start Offset")
+    public int startOffset;
+
+    @Label("Span Length")
+    @Description("Number of characters scanned by the recovery")
+    public int spanLength;
+
+    @Label("Recovered")
+    public boolean recovered;
+
+    /**
+     * Commits the event, if it is enabled.
+     *
+     * @param target    the parser of the Savior
+     * @param token     the dummy token
+     * @param recovered whether the dummy token could be parsed
+     */
+    public void emit(IParser<?> target, IDummyToken token, boolean recovered) {
+
+        if (!this.shouldCommit()) return;
+
+        this.tokenClass = token.getClass().getName();
+        this.target = String.valueOf(target);
+        this.startOffset = token.getIndex();
+        this.spanLength = recovered ? token.getLength() : 0;
+        this.recovered = recovered;
+        this.commit();
+    }
+}
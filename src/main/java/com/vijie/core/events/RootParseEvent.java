@@ -0,0 +1,59 @@
+package com.vijie.core.events;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IRootToken;
+import com.vijie.core.interfaces.IToken;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Java Flight Recorder event spanning the parse of the target of a {@link com.vijie.core.Root}.
+ */
+@Name("com.vijie.RootParse")
+@Label("Root Parse")
+@Category({"Vijie", "Parse"})
+@Description("Parse of the target of a Root")
+public final class RootParseEvent extends Event {
+
+    @Label("Root Class")
+    public String rootClass;
+
+    @Label("Parser")
+    public String parser;
+
+    @Label("Start Offset")
+    public int startOffset;
+
+    @Label("Length")
+    @Description("Number of characters parsed")
+    public int length;
+
+    @Label("Error Type")
+    @Description("Type of the error thrown by the parse, if any")
+    public String errorType;
+
+    /**
+     * Commits the event, if it is enabled and its duration is over the threshold.
+     *
+     * @param root     the Root
+     * @param parser   the target parser
+     * @param sequence the sequence of the Root, before the parse of the target
+     * @param token    the parsed token, or null if the parse failed
+     * @param error    the error thrown by the parse, or null if the parse succeeded
+     */
+    public void emit(IRootToken<?> root, IParser<?> parser, Sequence sequence, IToken<?> token, Throwable error) {
+
+        if (!this.shouldCommit()) return;
+
+        this.rootClass = root.getClass().getName();
+        this.parser = parser.toString();
+        this.startOffset = sequence.getCurrentIndex();
+        this.length = (token != null) ? token.getLength() : 0;
+        this.errorType = (error != null) ? error.getClass().getName() : null;
+        this.commit();
+    }
+}
@@ -0,0 +1,63 @@
+package com.vijie.core.events;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A Java Flight Recorder event spanning the attempt of a parser, recorded through
+ * {@link Sequence#tryParse} and {@link Sequence#tryMatch}.
+ * <p>
+ * A parse attempts a parser for about every token of the input, so only the attempts
+ * lasting over the threshold, 1 ms by default, are recorded.
+ */
+@Name("com.vijie.TokenParse")
+@Label("Token Parse")
+@Category({"Vijie", "Parse"})
+@Description("Attempt of a parser at an offset of the input")
+@Threshold("1 ms")
+@StackTrace(false)
+public final class TokenParseEvent extends Event {
+
+    @Label("Parser")
+    public String parser;
+
+    @Label("Token Class")
+    public String tokenClass;
+
+    @Label("Start Offset")
+    public int startOffset;
+
+    @Label("Length")
+    @Description("Number of characters of the parsed token")
+    public int length;
+
+    @Label("Matched")
+    public boolean matched;
+
+    /**
+     * Commits the event, if it is enabled and its duration is over the threshold.
+     *
+     * @param parser   the parser attempted
+     * @param sequence the sequence the parser was attempted on
+     * @param token    the parsed token, or null if the parser did not match
+     */
+    public void emit(IParser<?> parser, Sequence sequence, IToken<?> token) {
+
+        if (!this.shouldCommit()) return;
+
+        this.parser = parser.toString();
+        this.tokenClass = parser.getType().getName();
+        this.startOffset = sequence.getCurrentIndex();
+        this.length = (token != null) ? token.getLength() : 0;
+        this.matched = (token != null);
+        this.commit();
+    }
+}
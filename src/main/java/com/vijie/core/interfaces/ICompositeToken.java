@@ -1,9 +1,12 @@
 package com.vijie.core.interfaces;
 
+import com.vijie.core.CharClass;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.BaseParseError;
 import com.vijie.core.errors.GenericFailedTokenError;
+import com.vijie.core.errors.GenericParseError;
 import com.vijie.core.errors.NotFoundError;
+import com.vijie.core.errors.OptionalNotFound;
 
 import java.util.List;
 
@@ -49,4 +52,56 @@ public interface ICompositeToken<V> extends IToken<V> {
      */
     void parse() throws BaseParseError;
 
+    /**
+     * Parses the token, returning false instead of throwing when it does not match.
+     * Interruptions and optional parsers that are not found are still thrown.
+     * <p>
+     * The default implementation adapts {@link #parse()}.
+     *
+     * @return true if the token matched, false otherwise
+     * @throws BaseParseError if the parse is interrupted
+     */
+    default boolean match() throws BaseParseError {
+        return ICompositeToken.matchByParse(this);
+    }
+
+    /**
+     * Parses a token through {@link #parse()}, returning false if it throws a parse error.
+     *
+     * @param token the token to parse
+     * @return true if the token matched, false otherwise
+     * @throws BaseParseError if the parse is interrupted
+     */
+    static boolean matchByParse(ICompositeToken<?> token) throws BaseParseError {
+        try {
+            token.parse();
+            return true;
+        } catch (OptionalNotFound error) {
+            throw error;
+        } catch (GenericParseError _) {
+            return false;
+        }
+    }
+
+    /**
+     * Gets the class of characters that the token can start with, as known before parsing.
+     * A token whose parse does not fail on a first character outside the class must not
+     * narrow it; the default class has every character.
+     *
+     * @return the class of the first characters of the token
+     */
+    default CharClass getFirst() {
+        return CharClass.ALL;
+    }
+
+    /**
+     * Checks if the token can match nothing, as known before parsing.
+     * A token that can match nothing must say so; the default token cannot.
+     *
+     * @return true if the token can match nothing, false otherwise
+     */
+    default boolean isNullable() {
+        return false;
+    }
+
 }
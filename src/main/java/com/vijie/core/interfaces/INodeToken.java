@@ -14,6 +14,13 @@ public interface INodeToken<V> extends IToken<V> {
      */
     ICompositeToken<?> getParent();
 
+    /**
+     * Set the parent of this node.
+     *
+     * @param parent The new parent node.
+     */
+    void setParent(ICompositeToken<?> parent);
+
     /**
      * Get the root node of this node.
      *
@@ -1,7 +1,11 @@
 package com.vijie.core.interfaces;
 
+import com.vijie.core.CharClass;
+import com.vijie.core.ParseResult;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.errors.GenericParseError;
+import com.vijie.core.errors.OptionalNotFound;
 
 /**
  *
@@ -28,4 +32,49 @@ public interface IParser<T extends IToken<?>> {
      */
     T parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError;
 
+    /**
+     * Parses a sequence and returns the result instead of throwing when it does not match.
+     * Only interruptions of the parse are thrown.
+     * <p>
+     * The default implementation adapts {@link #parse(ICompositeToken, Sequence)},
+     * so the error of a failure is still built and then dropped.
+     *
+     * @param parent the parent of the token
+     * @param sequence the sequence to parse
+     * @return the result of the parse
+     * @throws BaseParseError if the parse is interrupted
+     */
+    default ParseResult<T> match(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+        try {
+            return ParseResult.success(this.parse(parent, sequence));
+        } catch (OptionalNotFound _) {
+            return ParseResult.absent();
+        } catch (GenericParseError _) {
+            return ParseResult.failure();
+        }
+    }
+
+    /**
+     * Gets the class of characters that a token of this parser can start with.
+     * A parser given a character outside the class fails, or is not found if it is optional,
+     * so it does not need to be attempted. The default class has every character.
+     *
+     * @return the class of the first characters of the parser
+     */
+    default CharClass getFirst() {
+        return CharClass.ALL;
+    }
+
+    /**
+     * Checks if a token of this parser can match nothing, such as an optional parser.
+     * A parser that can match nothing is attempted whatever the next character, and the
+     * first characters of the parsers that follow it are included in the first characters
+     * of a chain. The default parser cannot match nothing.
+     *
+     * @return true if the parser can match nothing, false otherwise
+     */
+    default boolean isNullable() {
+        return false;
+    }
+
 }
@@ -0,0 +1,28 @@
+package com.vijie.core.interfaces;
+
+import com.vijie.core.Sequence;
+
+import java.io.Serializable;
+
+/**
+ * Functional interface for the constructor of a composite token.
+ * A constructor reference such as {@code Word::new} can be given directly to a factory.
+ * <p>
+ * The interface is serializable so that the token type of a constructor reference
+ * can be read from it.
+ *
+ * @param <T> the type of token that this constructor creates
+ */
+@FunctionalInterface
+public interface ITokenConstructor<T extends ICompositeToken<?>> extends Serializable {
+
+    /**
+     * Create a token.
+     *
+     * @param parent The parent of the token.
+     * @param sequence The sequence to parse.
+     * @return The new token.
+     */
+    T create(ICompositeToken<?> parent, Sequence sequence);
+
+}
@@ -0,0 +1,90 @@
+package com.vijie.core.interfaces;
+
+/**
+ * Interface for the read-only storage backing a sequence.
+ * A source exposes its content both as tokens and as primitive characters,
+ * so that characters can be checked without materializing their tokens.
+ */
+public interface ITokenSource {
+
+    /**
+     * Get the number of tokens in the source, including the trailing EOF token.
+     *
+     * @return The number of tokens.
+     */
+    int size();
+
+    /**
+     * Get the token at the given position.
+     * Calling this method twice with the same position returns the same token.
+     *
+     * @param position The position of the token in the source.
+     * @return The token at the given position.
+     */
+    IToken<?> get(int position);
+
+    /**
+     * Get the character at the given position, without materializing its token.
+     *
+     * @param position The position of the character in the source.
+     * @return The character, or -1 if the token at the given position is not a character.
+     */
+    int getChar(int position);
+
+    /**
+     * Get the raw string of a range of the source.
+     *
+     * @param from The start position (inclusive).
+     * @param to The end position (exclusive).
+     * @return The raw string of the tokens in the range.
+     */
+    default String getRaw(int from, int to) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = from; i < to; i++) builder.append(this.get(i).getRaw());
+        return builder.toString();
+    }
+
+    /**
+     * Check if the source has a token at the given position.
+     * A streamed source reads up to the position, but not past it.
+     *
+     * @param position The position of the token in the source.
+     * @return True if the position is within the source, false otherwise.
+     */
+    default boolean has(int position) {
+        return position < this.size();
+    }
+
+    /**
+     * Check if the source is streamed: its size is only known once it is read to
+     * the end, and it may discard the tokens before the released position.
+     *
+     * @return True if the source is streamed, false otherwise.
+     */
+    default boolean isStreamed() {
+        return false;
+    }
+
+    /**
+     * Keep every token from the given position until the mark is removed.
+     *
+     * @param position The position to mark.
+     */
+    default void mark(int position) {}
+
+    /**
+     * Remove a mark set at the given position.
+     *
+     * @param position The position of the mark.
+     */
+    default void unmark(int position) {}
+
+    /**
+     * Declare that the tokens before the given position will not be requested again,
+     * unless they are held by a mark.
+     *
+     * @param position The first position that may still be requested.
+     */
+    default void release(int position) {}
+
+}
@@ -1,11 +1,12 @@
 package com.vijie.core.parsers;
 
+import com.vijie.core.CharClass;
+import com.vijie.core.ParseResult;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.*;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.IParser;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -28,6 +29,16 @@ public class Any<T extends ICompositeToken<?>> implements IParser<T> {
      */
     private final IParser<? extends T>[] targets;
 
+    /**
+     * The table of the targets by first character, built on the first parse.
+     */
+    private Dispatch<IParser<? extends T>> dispatch;
+
+    /**
+     * The first characters of the targets, computed on the first request.
+     */
+    private CharClass first;
+
     /**
      * Constructs an Any parser with the given parsers.
      *
@@ -74,21 +85,88 @@ public class Any<T extends ICompositeToken<?>> implements IParser<T> {
      * {@inheritDoc}
      */
     @Override
+    public CharClass getFirst() {
+        if (this.first == null) this.first = Dispatch.union(this.targets);
+        return this.first;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNullable() {
+        return Dispatch.unionNullable(this.targets);
+    }
+
+    /**
+     * Returns the table of the targets by first character.
+     *
+     * @return the table of the targets
+     */
+    protected Dispatch<IParser<? extends T>> getDispatch() {
+        if (this.dispatch == null) this.dispatch = new Dispatch<>(this.targets);
+        return this.dispatch;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the targets that can start with the next character are attempted, and the
+     * first successful speculative result is returned as is, to be committed by the caller.
+     */
+    @Override
+    public ParseResult<T> match(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+
+        int mark = sequence.mark();
+
+        try {
+            for (IParser<? extends T> target : this.getDispatch().getCandidates(sequence.getCurrentChar())) {
+                ParseResult<? extends T> result = sequence.tryMatch(parent, target);
+                if (result.isSuccess()) return ParseResult.success(result.getToken());
+                if (sequence.isCut()) break;
+            }
+        } finally {
+            sequence.unmark(mark);
+        }
+
+        return ParseResult.failure();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In {@link Failures.Mode#FARTHEST} mode, the targets are attempted through
+     * {@link #match(ICompositeToken, Sequence)} and the error is built from the farthest failure,
+     * so that they are parsed once; otherwise the error of each candidate target is kept.
+     */
+    @Override
     public T parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
 
-        List<ParserError> errors = new ArrayList<>();
+        if (sequence.getErrorMode() == Failures.Mode.FARTHEST) {
+            ParseResult<T> result = this.match(parent, sequence);
+            if (result.isSuccess()) return result.getToken();
+            throw new AnyParserError(this, sequence, sequence.getFailures());
+        }
 
-        for (IParser<? extends T> target : this.targets) {
-            try {
-                sequence.tryParse(parent, target);
-                return target.parse(parent, sequence);
-            } catch (OptionalNotFound _) {
-            } catch (GenericParseError cause) {
-                errors.add(new ParserError(sequence, cause, target));
+        Failures failures = new Failures(sequence.getErrorMode());
+        int mark = sequence.mark();
+
+        try {
+            for (IParser<? extends T> target : this.getDispatch().getCandidates(sequence.getCurrentChar())) {
+                try {
+                    return sequence.tryParse(parent, target);
+                } catch (OptionalNotFound _) {
+                } catch (GenericParseError cause) {
+                    ParserError error = new ParserError(sequence, cause, target);
+                    if (sequence.isCut()) throw error;
+                    failures.add(error);
+                }
             }
+        } finally {
+            sequence.unmark(mark);
         }
 
-        throw new AnyParserError(this, sequence, errors.toArray(ParserError[]::new));
+        throw new AnyParserError(this, sequence, failures);
 
     }
 
@@ -1,5 +1,15 @@
 package com.vijie.core.parsers;
 
+import com.vijie.core.ParseResult;
+import com.vijie.core.Sequence;
+import com.vijie.core.Trie;
+import com.vijie.core.errors.AnyParserError;
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.errors.Failures;
+import com.vijie.core.errors.GenericParseError;
+import com.vijie.core.errors.ParserError;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
 import com.vijie.core.tokens.StringLiteral;
 
 import static com.vijie.core.Utils.mergeLiterals;
@@ -8,6 +18,10 @@ import static com.vijie.core.Utils.mergeStrings;
 /**
  * The AnyString class extends the Any class with a type parameter of StringLiteral.
  * It represents a collection of string parsers.
+ * <p>
+ * The strings are compiled into a {@link Trie} that is walked once over the input,
+ * and only the literal it matches is parsed. When several strings match, the first
+ * given one is chosen by default; the longest one can be chosen instead.
  */
 public final class AnyString extends Any<StringLiteral> {
 
@@ -16,6 +30,16 @@ public final class AnyString extends Any<StringLiteral> {
      */
     private final String[] literals;
 
+    /**
+     * The tree of the literals.
+     */
+    private final Trie trie;
+
+    /**
+     * The literal chosen when several literals match.
+     */
+    private final Trie.Match match;
+
     /**
      * Constructs an AnyString object by merging the provided strings.
      *
@@ -24,8 +48,23 @@ public final class AnyString extends Any<StringLiteral> {
      * @param others additional strings.
      */
     public AnyString(String first, String second, String... others) {
+        this(Trie.Match.FIRST, first, second, others);
+    }
+
+    /**
+     * Constructs an AnyString object by merging the provided strings,
+     * with the string to choose when several strings match.
+     *
+     * @param match the string to choose when several strings match.
+     * @param first the first string.
+     * @param second the second string.
+     * @param others additional strings.
+     */
+    public AnyString(Trie.Match match, String first, String second, String... others) {
         super(mergeLiterals(mergeStrings(first, second, others)));
         this.literals = mergeStrings(first, second, others);
+        this.trie = Trie.of(this.literals);
+        this.match = match;
     }
 
     /**
@@ -37,9 +76,68 @@ public final class AnyString extends Any<StringLiteral> {
         return literals;
     }
 
+    /**
+     * Returns the literal chosen when several literals match.
+     *
+     * @return the match mode of the parser.
+     */
+    public Trie.Match getMatch() {
+        return this.match;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the literal matched by the tree is parsed.
+     */
+    @Override
+    public ParseResult<StringLiteral> match(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+
+        int index = this.trie.match(sequence, this.match);
+
+        if (index < 0) return ParseResult.failure();
+
+        int mark = sequence.mark();
+
+        try {
+            ParseResult<? extends StringLiteral> result = sequence.tryMatch(parent, this.getTargets()[index]);
+            return result.isSuccess() ? ParseResult.success(result.getToken()) : ParseResult.failure();
+        } finally {
+            sequence.unmark(mark);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the literal matched by the tree is parsed.
+     */
+    @Override
+    public StringLiteral parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+
+        int index = this.trie.match(sequence, this.match);
+
+        Failures failures = new Failures(sequence.getErrorMode());
+
+        if (index < 0) {
+            for (IParser<? extends StringLiteral> target : this.getTargets()) failures.expect(sequence.getCurrentIndex(), target);
+            throw new AnyParserError(this, sequence, failures);
+        }
+
+        int mark = sequence.mark();
+
+        try {
+            return sequence.tryParse(parent, this.getTargets()[index]);
+        } catch (GenericParseError cause) {
+            failures.add(new ParserError(sequence, cause, this.getTargets()[index]));
+            throw new AnyParserError(this, sequence, failures);
+        } finally {
+            sequence.unmark(mark);
+        }
+    }
+
     @Override
     public String toString() {
         return "{Literals}(%s)".formatted(String.join(", ", this.literals));
     }
 }
-
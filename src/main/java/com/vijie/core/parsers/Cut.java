@@ -0,0 +1,145 @@
+package com.vijie.core.parsers;
+
+import com.vijie.core.CharClass;
+import com.vijie.core.ParseResult;
+import com.vijie.core.Sequence;
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+
+/**
+ * A parser that commits the parse once its target is parsed.
+ * <p>
+ * Placed in the targets of a chain, typically after a keyword or an opening brace, a commit
+ * point tells the enclosing choices ({@link Any}, {@link com.vijie.core.tokens.Union},
+ * {@link com.vijie.core.tokens.OptionsChain} and {@link Optional}) that the input cannot be
+ * anything else: if the parse fails after it, they report the error of the alternative that
+ * passed the commit point instead of attempting their other alternatives. The memoized
+ * results before the commit point are released to bound the memory of the table, so a
+ * choice that backtracks before a spent commit point parses them again.
+ * <p>
+ * A commit point only counts while the token it is placed in is parsed: once that token is
+ * parsed, a later failure lets the enclosing choices attempt their other alternatives again.
+ * <p>
+ * A commit point is not memoized itself, so that it is passed again on every parse; its
+ * target is parsed speculatively, and memoized, through the sequence.
+ *
+ * @param <T> the type of the token
+ */
+public final class Cut<T extends IToken<?>> implements IParser<T> {
+
+    public static <T extends IToken<?>> Cut<T> of(IParser<T> parser) {
+        return new Cut<>(parser);
+    }
+
+    /**
+     * The target parser, after which the parse is committed.
+     */
+    private final IParser<? extends T> target;
+
+    /**
+     * Constructs a commit point after the specified target parser.
+     *
+     * @param target the target parser
+     */
+    public Cut(IParser<? extends T> target) {
+        this.target = target;
+    }
+
+    /**
+     * Returns the target parser.
+     *
+     * @return the target parser
+     */
+    public IParser<? extends T> getTarget() {
+        return target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<? extends T> getType() {
+        return this.target.getType();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharClass getFirst() {
+        return this.target.getFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNullable() {
+        return this.target.isNullable();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The parse is committed if the target matched.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ParseResult<T> match(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+        ParseResult<? extends T> result = sequence.tryMatch(parent, this.target);
+        if (result.isSuccess()) this.cut(sequence, result.getToken());
+        return (ParseResult<T>) result;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The parse is committed once the target is parsed.
+     */
+    @Override
+    public T parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+        T token = sequence.tryParse(parent, this.target);
+        this.cut(sequence, token);
+        return token;
+    }
+
+    /**
+     * Commits the parse at the end of the parsed token.
+     *
+     * @param sequence the sequence the token was parsed from
+     * @param token    the parsed token
+     */
+    private void cut(Sequence sequence, IToken<?> token) {
+        sequence.cut(token.getIndex() + token.getLength());
+    }
+
+    /**
+     * Checks if this parser wraps a target equal to the target of another Cut parser.
+     *
+     * @param o the object to compare with
+     * @return true if the object is a Cut parser with an equal target
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Cut<?> cut)) return false;
+        return this.target.equals(cut.target);
+    }
+
+    /**
+     * Computes the hash code of the parser from its target.
+     *
+     * @return the hash code of the parser
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Cut.class.hashCode() + this.target.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "{Cut}(%s)".formatted(target);
+    }
+}
@@ -0,0 +1,198 @@
+package com.vijie.core.parsers;
+
+import com.vijie.core.CharClass;
+import com.vijie.core.interfaces.IParser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A table of the alternatives of a choice that can start with each character.
+ * <p>
+ * The table is built from the {@link IParser#getFirst() first characters} of the alternatives,
+ * so that a choice only attempts the alternatives that can match the next character,
+ * in their original order; an alternative that can match nothing is always attempted.
+ * The candidates of the ASCII characters are computed once; the others are filtered on request.
+ *
+ * @param <P> the type of the alternatives
+ */
+public final class Dispatch<P extends IParser<?>> {
+
+    /**
+     * The number of characters whose candidates are computed when the table is built.
+     */
+    private static final int TABLE_SIZE = 128;
+
+    /**
+     * The tables already built, by array of alternatives. The arrays are weakly held, so that
+     * the table of a grammar is released with it.
+     */
+    private static final Map<IParser<?>[], Dispatch<?>> TABLES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Returns the class of the first characters of any of the given parsers.
+     *
+     * @param parsers the parsers
+     * @return the union of the first characters of the parsers
+     */
+    public static CharClass union(IParser<?>[] parsers) {
+
+        CharClass first = CharClass.EMPTY;
+
+        for (IParser<?> parser : parsers) {
+            CharClass other = parser.getFirst();
+            if (other == CharClass.ALL) return CharClass.ALL;
+            first = first.union(other);
+        }
+
+        return first;
+    }
+
+    /**
+     * Returns the class of the first characters of the given parsers parsed one after the other.
+     * The parsers at the start of the chain that can match nothing may be skipped, so the first
+     * characters of the parsers that follow them are included.
+     *
+     * @param parsers the parsers of the chain
+     * @return the first characters of the chain
+     */
+    public static CharClass chain(IParser<?>[] parsers) {
+
+        CharClass first = CharClass.EMPTY;
+
+        for (IParser<?> parser : parsers) {
+            CharClass other = parser.getFirst();
+            if (other == CharClass.ALL) return CharClass.ALL;
+            first = first.union(other);
+            if (!parser.isNullable()) return first;
+        }
+
+        return first;
+    }
+
+    /**
+     * Checks if any of the given parsers can match nothing.
+     *
+     * @param parsers the parsers
+     * @return true if a parser can match nothing, false otherwise
+     */
+    public static boolean unionNullable(IParser<?>[] parsers) {
+
+        for (IParser<?> parser : parsers) {
+            if (parser.isNullable()) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the given parsers parsed one after the other can match nothing.
+     *
+     * @param parsers the parsers of the chain
+     * @return true if every parser can match nothing, false otherwise
+     */
+    public static boolean chainNullable(IParser<?>[] parsers) {
+
+        for (IParser<?> parser : parsers) {
+            if (!parser.isNullable()) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the table of some alternatives.
+     * The tables are shared by the choices that hold the same array of alternatives, such as
+     * the tokens of a factory or of a type whose alternatives are a constant.
+     *
+     * @param targets the alternatives of the choice
+     * @param <P>     the type of the alternatives
+     * @return the table of the alternatives
+     */
+    @SuppressWarnings("unchecked")
+    public static <P extends IParser<?>> Dispatch<P> of(P[] targets) {
+
+        Dispatch<?> dispatch = TABLES.get(targets);
+
+        if (dispatch == null) {
+            dispatch = new Dispatch<>(targets);
+            Dispatch<?> previous = TABLES.putIfAbsent(targets, dispatch);
+            if (previous != null) dispatch = previous;
+        }
+
+        return (Dispatch<P>) dispatch;
+    }
+
+    /**
+     * The alternatives, in order.
+     */
+    private final P[] targets;
+
+    /**
+     * The first characters of each alternative.
+     */
+    private final CharClass[] firsts;
+
+    /**
+     * The candidates of each ASCII character.
+     */
+    private final P[][] table;
+
+    /**
+     * Builds the table of a choice.
+     *
+     * @param targets the alternatives of the choice
+     */
+    @SuppressWarnings("unchecked")
+    public Dispatch(P[] targets) {
+
+        // A copy, so that a table does not hold the array it is shared by.
+        this.targets = targets.clone();
+        // An alternative that can match nothing is a candidate for every character.
+        this.firsts = Arrays.stream(targets).map(target -> target.isNullable() ? CharClass.ALL : target.getFirst()).toArray(CharClass[]::new);
+        this.table = (P[][]) java.lang.reflect.Array.newInstance(targets.getClass(), TABLE_SIZE);
+
+        for (int c = 0; c < TABLE_SIZE; c++) this.table[c] = this.filter(c);
+    }
+
+    /**
+     * Returns the alternatives of the choice.
+     *
+     * @return the alternatives
+     */
+    public P[] getTargets() {
+        return this.targets;
+    }
+
+    /**
+     * Returns the alternatives that can start with a character, in their original order.
+     *
+     * @param character the next character, or a negative value if the next token is not a character
+     * @return the candidate alternatives
+     */
+    public P[] getCandidates(int character) {
+        if (character < 0) return this.targets;
+        if (character < TABLE_SIZE) return this.table[character];
+        return this.filter(character);
+    }
+
+    /**
+     * Filters the alternatives that can start with a character.
+     *
+     * @param character the character
+     * @return the candidate alternatives
+     */
+    private P[] filter(int character) {
+
+        P[] candidates = Arrays.copyOf(this.targets, this.targets.length);
+        int count = 0;
+
+        for (int i = 0; i < this.targets.length; i++) {
+            if (this.firsts[i].contains(character)) candidates[count++] = this.targets[i];
+        }
+
+        return (count == this.targets.length) ? this.targets : Arrays.copyOf(candidates, count);
+    }
+}
@@ -1,5 +1,6 @@
 package com.vijie.core.parsers;
 
+import com.vijie.core.CharClass;
 import com.vijie.core.CompositeToken;
 import org.apache.commons.text.StringEscapeUtils;
 import com.vijie.core.Sequence;
@@ -7,9 +8,19 @@ import com.vijie.core.errors.*;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.IParser;
 import com.vijie.core.interfaces.IToken;
+import com.vijie.core.interfaces.ITokenConstructor;
 
+import java.lang.invoke.SerializedLambda;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +35,93 @@ public class Factory<T extends ICompositeToken<?>> extends GenericFactory<T> {
         return new Factory<>((Class<T>) tokenType, params);
     }
 
+    /**
+     * Creates a factory from a constructor reference, such as {@code Word::new}.
+     * The token type is read from the reference.
+     *
+     * @param constructor the constructor reference
+     * @param <T>         the type of the token
+     * @return a new factory
+     * @throws IllegalArgumentException if the constructor is not a constructor reference
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends ICompositeToken<?>> Factory<T> of(ITokenConstructor<T> constructor) {
+        return new Factory<>((Class<T>) TYPES.computeIfAbsent(constructor.getClass(), _ -> getConstructedType(constructor)), constructor);
+    }
+
+    /**
+     * Creates a factory from a token type and its constructor, which may be any function.
+     *
+     * @param tokenType   the class type of the token
+     * @param constructor the constructor of the token
+     * @param <T>         the type of the token
+     * @return a new factory
+     */
+    public static <T extends ICompositeToken<?>> Factory<T> of(Class<T> tokenType, ITokenConstructor<T> constructor) {
+        return new Factory<>(tokenType, constructor);
+    }
+
+    /**
+     * The token types of the constructor references, by class of the reference.
+     */
+    private static final Map<Class<?>, Class<?>> TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the token type of a constructor reference from its serialized form.
+     *
+     * @param constructor the constructor reference
+     * @return the class type of the token
+     * @throws IllegalArgumentException if the constructor is not a constructor reference
+     */
+    private static Class<?> getConstructedType(ITokenConstructor<?> constructor) {
+
+        SerializedLambda lambda;
+
+        try {
+            Method writeReplace = constructor.getClass().getDeclaredMethod("writeReplace");
+            writeReplace.setAccessible(true);
+            lambda = (SerializedLambda) writeReplace.invoke(constructor);
+        } catch (ReflectiveOperationException | ClassCastException error) {
+            throw new IllegalArgumentException("Cannot read the token type of %s".formatted(constructor), error);
+        }
+
+        if (!lambda.getImplMethodName().equals("<init>")) {
+            throw new IllegalArgumentException("%s is not a constructor reference, use Factory.of(Class, ITokenConstructor)".formatted(lambda.getImplMethodName()));
+        }
+
+        try {
+            return Class.forName(lambda.getImplClass().replace('/', '.'), false, constructor.getClass().getClassLoader());
+        } catch (ClassNotFoundException error) {
+            throw new IllegalArgumentException("Cannot read the token type of %s".formatted(constructor), error);
+        }
+    }
+
+    /**
+     * What is known of the tokens of a factory before parsing.
+     *
+     * @param first    the first characters of the tokens
+     * @param nullable whether the tokens can match nothing
+     */
+    private record Prediction(CharClass first, boolean nullable) {}
+
+    /**
+     * The prediction of a factory whose tokens cannot be instantiated, or that is reached
+     * again while its prediction is computed: every character, and possibly nothing.
+     */
+    private static final Prediction UNKNOWN = new Prediction(CharClass.ALL, true);
+
+    /**
+     * The predictions of the factories, computed once for all equal factories. The factories
+     * are weakly held, so that the predictions of a grammar are released with it.
+     */
+    private static final Map<Factory<?>, Prediction> PREDICTIONS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The factories whose predictions are being computed by the current thread,
+     * to stop on recursive grammars.
+     */
+    private static final ThreadLocal<Set<Factory<?>>> COMPUTING = ThreadLocal.withInitial(HashSet::new);
+
     /**
      * The class type of the token that this parser handles.
      */
@@ -34,6 +132,16 @@ public class Factory<T extends ICompositeToken<?>> extends GenericFactory<T> {
      */
     protected Object[] params;
 
+    /**
+     * The constructor of the token given to the factory, or null to find it from the token type and the parameters.
+     */
+    protected final ITokenConstructor<T> constructor;
+
+    /**
+     * The constructor of the token, resolved on the first instantiation.
+     */
+    private ITokenConstructor<T> resolved;
+
     /**
      * Constructs a new Factory instance.
      *
@@ -43,6 +151,19 @@ public class Factory<T extends ICompositeToken<?>> extends GenericFactory<T> {
     public Factory(Class<T> tokenType, Object... params) {
         this.tokenType = tokenType;
         this.params = params;
+        this.constructor = null;
+    }
+
+    /**
+     * Constructs a new Factory instance with a given constructor.
+     *
+     * @param tokenType   the class type of the token
+     * @param constructor the constructor of the token
+     */
+    public Factory(Class<T> tokenType, ITokenConstructor<T> constructor) {
+        this.tokenType = tokenType;
+        this.params = new Object[0];
+        this.constructor = constructor;
     }
 
     /**
@@ -53,9 +174,71 @@ public class Factory<T extends ICompositeToken<?>> extends GenericFactory<T> {
         return this.tokenType;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The first characters are given by a token instantiated on an empty sequence and not parsed.
+     * A token that cannot be instantiated, or a grammar that reaches this factory again before
+     * its first characters are known, gives every character.
+     */
+    @Override
+    public CharClass getFirst() {
+        return this.predict().first();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Like the first characters, it is given by a token instantiated on an empty sequence and
+     * not parsed. A token that cannot be instantiated, or a grammar that reaches this factory
+     * again before it is known, can match nothing.
+     */
+    @Override
+    public boolean isNullable() {
+        return this.predict().nullable();
+    }
+
+    /**
+     * Computes what is known of the tokens of this factory before parsing, once for all equal factories.
+     * A prediction computed while another one is computed may rely on a factory reached again,
+     * so only the prediction that started the computation is kept.
+     *
+     * @return the prediction of the factory
+     */
+    private Prediction predict() {
+
+        Prediction prediction = PREDICTIONS.get(this);
+        if (prediction != null) return prediction;
+
+        Set<Factory<?>> computing = COMPUTING.get();
+        if (!computing.add(this)) return UNKNOWN;
+
+        try {
+            T token = this.instantiateToken(null, Sequence.fromString(""));
+            prediction = new Prediction(token.getFirst(), token.isNullable());
+        } catch (TokenInstantiationError _) {
+            prediction = UNKNOWN;
+        } finally {
+            computing.remove(this);
+        }
+
+        if (computing.isEmpty()) PREDICTIONS.put(this, prediction);
+        return prediction;
+    }
+
+    /**
+     * Instantiates a token without parsing it.
+     *
+     * @param parent   the parent of the token
+     * @param sequence the sequence of the token
+     * @return the new token
+     */
     @Override
-    protected T instantiateToken(ICompositeToken<?> parent, Sequence sequence) {
-        return CompositeToken.instantiate(this.tokenType, parent, sequence, this.params);
+    public T instantiateToken(ICompositeToken<?> parent, Sequence sequence) {
+        if (this.resolved == null) {
+            this.resolved = (this.constructor != null) ? this.constructor : CompositeToken.getConstructor(this.tokenType, this.params);
+        }
+        return CompositeToken.instantiate(this.resolved, parent, sequence);
     }
 
     /**
@@ -70,6 +253,32 @@ public class Factory<T extends ICompositeToken<?>> extends GenericFactory<T> {
         return Arrays.stream(parsers).map(IParser::getType).collect(Collectors.toList());
     }
 
+    /**
+     * Checks if this factory produces the same token type with the same parameters
+     * and the same given constructor as another.
+     *
+     * @param o the object to compare with
+     * @return true if the object is a Factory with the same token type and parameters
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Factory<?> factory) || this.getClass() != o.getClass()) return false;
+        return this.tokenType == factory.tokenType
+                && Arrays.deepEquals(this.params, factory.params)
+                && Objects.equals(this.constructor, factory.constructor);
+    }
+
+    /**
+     * Computes the hash code of the factory from its token type and parameters.
+     *
+     * @return the hash code of the factory
+     */
+    @Override
+    public int hashCode() {
+        return 31 * this.tokenType.hashCode() + Arrays.deepHashCode(this.params);
+    }
+
     @Override
     public String toString() {
 
@@ -1,9 +1,12 @@
 package com.vijie.core.parsers;
 
+import com.vijie.core.CompositeToken;
+import com.vijie.core.ParseResult;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.BaseParseError;
 import com.vijie.core.errors.GenericInterrupter;
 import com.vijie.core.errors.Interruption;
+import com.vijie.core.errors.OptionalNotFound;
 import com.vijie.core.errors.ParserError;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.IParser;
@@ -42,6 +45,28 @@ public abstract class GenericFactory<T extends ICompositeToken<?>> implements IP
         return token;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The token is parsed through {@link CompositeToken#match(ICompositeToken)}.
+     */
+    @Override
+    public ParseResult<T> match(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+
+        T token = this.instantiateToken(parent, sequence);
+
+        try {
+            if (!CompositeToken.match(token)) return ParseResult.failure();
+        } catch (GenericInterrupter error) {
+            token.getSequence().setPointer(0);
+            throw new Interruption(error, token);
+        } catch (OptionalNotFound _) {
+            return ParseResult.absent();
+        }
+
+        return ParseResult.success(token);
+    }
+
     /**
      * Handles parse errors by throwing a new BaseParseError.
      *
@@ -1,7 +1,10 @@
 package com.vijie.core.parsers;
 
+import com.vijie.core.CharClass;
+import com.vijie.core.ParseResult;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.errors.Failures;
 import com.vijie.core.errors.OptionalNotFound;
 import com.vijie.core.errors.ParserError;
 import com.vijie.core.interfaces.ICompositeToken;
@@ -54,17 +57,98 @@ public final class Optional<T extends IToken<?>> implements IParser<T> {
 
     /**
      * {@inheritDoc}
+     * <p>
+     * An optional parser has the first characters of its target: on any other character,
+     * it is not found.
+     */
+    @Override
+    public CharClass getFirst() {
+        return this.target.getFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * An optional parser that is not found matches nothing.
+     */
+    @Override
+    public boolean isNullable() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A target that does not match gives an absent result.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ParseResult<T> match(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+
+        int mark = sequence.mark();
+
+        try {
+            ParseResult<? extends T> result = sequence.match(parent, this.target);
+            if (result.isSuccess()) return (ParseResult<T>) result;
+            // A target that failed after a commit point is not optional anymore.
+            return sequence.isCut() ? ParseResult.failure() : ParseResult.absent();
+        } finally {
+            sequence.unmark(mark);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In {@link Failures.Mode#FARTHEST} mode, the target is attempted through
+     * {@link #match(ICompositeToken, Sequence)} and its error is built from the farthest failure,
+     * so that it is parsed once.
      */
     @Override
     public T parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
 
+        if (sequence.getErrorMode() == Failures.Mode.FARTHEST) {
+            ParseResult<T> result = this.match(parent, sequence);
+            if (result.isSuccess()) return result.getToken();
+            if (result.isFailure()) throw sequence.getFailure(this.target);
+            throw new OptionalNotFound(sequence, sequence.getFailure(this.target), this.target);
+        }
+
+        int mark = sequence.mark();
+
         try {
             return sequence.parse(parent, this.target);
         } catch (ParserError error) {
+            if (sequence.isCut()) throw error;
             throw new OptionalNotFound(sequence, error, this.target);
+        } finally {
+            sequence.unmark(mark);
         }
     }
 
+    /**
+     * Checks if this parser wraps a target equal to the target of another Optional parser.
+     *
+     * @param o the object to compare with
+     * @return true if the object is an Optional parser with an equal target
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Optional<?> optional)) return false;
+        return this.target.equals(optional.target);
+    }
+
+    /**
+     * Computes the hash code of the parser from its target.
+     *
+     * @return the hash code of the parser
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Optional.class.hashCode() + this.target.hashCode();
+    }
+
     @Override
     public String toString() {
         return "{Optional}(%s)".formatted(target);
@@ -2,6 +2,7 @@ package com.vijie.core.parsers;
 
 import com.vijie.core.*;
 import com.vijie.core.errors.*;
+import com.vijie.core.events.RecoveryEvent;
 import com.vijie.core.interfaces.*;
 import com.vijie.core.dummy.FailedToken;
 import com.vijie.core.dummy.MissingToken;
@@ -58,6 +59,7 @@ public class Savior<T extends ICompositeToken<?>> implements IParser<T> {
     public T parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
 
         IDummyToken failedToken;
+        int mark = sequence.mark();
 
         try {
             return this.target.parse(parent,  sequence.copy());
@@ -70,7 +72,9 @@ public class Savior<T extends ICompositeToken<?>> implements IParser<T> {
         }/* catch (BaseParseError error) {
             System.err.println(this + " " + error);
             throw error;
-        }*/
+        }*/ finally {
+            sequence.unmark(mark);
+        }
 
         //System.out.println(failedToken);
         throw new FailedTokenInterruption(failedToken);
@@ -102,14 +106,21 @@ public class Savior<T extends ICompositeToken<?>> implements IParser<T> {
 
     protected IDummyToken parseToken(ICompositeToken<?> parent, Sequence sequence, IDummyToken failedToken) throws BaseParseError {
 
+        RecoveryEvent event = new RecoveryEvent();
+        event.begin();
+
         try {
             failedToken.parse();
+            event.emit(this.target, failedToken, true);
         } catch (EOFInterrupter _) {
+            event.emit(this.target, failedToken, false);
             if (this.missingInterrupter == null) throw failedToken.getInterrupter();
             return this.parseToken(parent, sequence, this.getMissing(parent, sequence));
         } catch (NotFoundError _) {
+            event.emit(this.target, failedToken, false);
             throw failedToken.getInterrupter();
         } catch (GenericInterrupter error) {
+            event.emit(this.target, failedToken, false);
             throw new Interruption(failedToken.getInterrupter(), failedToken);
         }
 
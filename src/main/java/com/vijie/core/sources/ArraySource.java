@@ -0,0 +1,51 @@
+package com.vijie.core.sources;
+
+import com.vijie.core.interfaces.ITokenSource;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.symbols.Atom;
+
+/**
+ * A source backed by an array of already built tokens.
+ */
+public final class ArraySource implements ITokenSource {
+
+    /**
+     * The tokens of the source.
+     */
+    private final IToken<?>[] tokens;
+
+    /**
+     * Constructs a source over an array of tokens.
+     * The array is not copied and must not be modified afterward.
+     *
+     * @param tokens the tokens of the source
+     */
+    public ArraySource(IToken<?>[] tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.tokens.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IToken<?> get(int position) {
+        return this.tokens[position];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getChar(int position) {
+        if (this.tokens[position] instanceof Atom atom) return atom.getValue();
+        return -1;
+    }
+}
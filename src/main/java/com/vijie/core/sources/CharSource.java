@@ -0,0 +1,105 @@
+package com.vijie.core.sources;
+
+import com.vijie.core.interfaces.ITokenSource;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.symbols.Atom;
+import com.vijie.core.symbols.EOF;
+
+import java.nio.CharBuffer;
+
+/**
+ * A source backed by a sequence of characters.
+ * <p>
+ * Atoms are only created when a token is requested at a given position, and are
+ * then kept so that the same position always returns the same Atom. They are kept
+ * by block, and a block is only allocated on the first request in it, so that a
+ * source that is only partly requested does not hold a token slot per character.
+ * Checking a character with {@link #getChar(int)} never creates an Atom.
+ */
+public final class CharSource implements ITokenSource {
+
+    /**
+     * The number of tokens in a block, as a power of two.
+     */
+    private static final int BLOCK_SHIFT = 10;
+
+    /**
+     * The number of tokens in a block.
+     */
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    /**
+     * The characters of the source.
+     */
+    private final CharSequence chars;
+
+    /**
+     * The tokens already requested, grouped by block and allocated on the first request in a block.
+     */
+    private IToken<?>[][] tokens;
+
+    /**
+     * Constructs a source over a sequence of characters.
+     *
+     * @param chars the characters of the source
+     */
+    public CharSource(CharSequence chars) {
+        this.chars = chars;
+    }
+
+    /**
+     * Constructs a source over an array of characters.
+     * The array is not copied and must not be modified afterward.
+     *
+     * @param chars the characters of the source
+     */
+    public CharSource(char[] chars) {
+        this(CharBuffer.wrap(chars));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.chars.length() + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IToken<?> get(int position) {
+
+        if (this.tokens == null) this.tokens = new IToken<?>[(this.size() + BLOCK_SIZE - 1) >>> BLOCK_SHIFT][];
+
+        IToken<?>[] block = this.tokens[position >>> BLOCK_SHIFT];
+        if (block == null) block = this.tokens[position >>> BLOCK_SHIFT] = new IToken<?>[BLOCK_SIZE];
+
+        IToken<?> token = block[position & (BLOCK_SIZE - 1)];
+
+        if (token == null) {
+            token = (position == this.chars.length()) ? new EOF(position) : new Atom(this.chars.charAt(position), position);
+            block[position & (BLOCK_SIZE - 1)] = token;
+        }
+
+        return token;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getChar(int position) {
+        if (position == this.chars.length()) return -1;
+        return this.chars.charAt(position);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getRaw(int from, int to) {
+        return this.chars.subSequence(from, Math.min(to, this.chars.length())).toString();
+    }
+}
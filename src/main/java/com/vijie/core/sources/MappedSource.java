@@ -0,0 +1,325 @@
+package com.vijie.core.sources;
+
+import com.vijie.core.interfaces.ITokenSource;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.symbols.Atom;
+import com.vijie.core.symbols.EOF;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A source backed by a memory-mapped file.
+ * <p>
+ * The file is mapped in regions and is never copied to the heap as a whole.
+ * On creation, it is decoded once in blocks to index the byte and character offsets
+ * of every block; afterward, blocks are decoded on demand and only a few decoded
+ * blocks are kept. Atoms are created as they are requested, like in {@link CharSource}.
+ * <p>
+ * Each block is decoded independently, so charsets whose decoder carries state across
+ * characters (such as "UTF-16" with a byte order mark) must be given with an explicit
+ * byte order, e.g. "UTF-16LE".
+ */
+public final class MappedSource implements ITokenSource {
+
+    /**
+     * The maximum number of characters decoded at once.
+     */
+    private static final int BLOCK_SIZE = 8192;
+
+    /**
+     * The size of a mapped region, excluding its overlap with the next one.
+     */
+    private static final long REGION_SIZE = 1L << 30;
+
+    /**
+     * The number of bytes each region overlaps the next one, so that any block starting in
+     * a region ends in the same region.
+     */
+    private static final int REGION_OVERLAP = BLOCK_SIZE * 8;
+
+    /**
+     * The number of decoded blocks kept in memory.
+     */
+    private static final int CACHE_SIZE = 16;
+
+    /**
+     * The size of the file in bytes.
+     */
+    private final long byteSize;
+
+    /**
+     * The mapped regions of the file.
+     */
+    private final MappedByteBuffer[] regions;
+
+    /**
+     * The decoder of the file charset.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * The byte offset of each block, followed by the size of the file.
+     */
+    private long[] blockBytes;
+
+    /**
+     * The character index of each block, followed by the number of characters.
+     */
+    private int[] blockChars;
+
+    /**
+     * The number of blocks.
+     */
+    private int blockCount;
+
+    /**
+     * The most recently decoded blocks.
+     */
+    private final Map<Integer, char[]> decoded = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, char[]> eldest) {
+            return this.size() > CACHE_SIZE;
+        }
+    };
+
+    /**
+     * The index of the last accessed block.
+     */
+    private int lastBlock = -1;
+
+    /**
+     * The characters of the last accessed block.
+     */
+    private char[] lastChars;
+
+    /**
+     * The tokens already requested, grouped by block and allocated on the first request in a block.
+     */
+    private IToken<?>[][] tokens;
+
+    /**
+     * The EOF token, created on request.
+     */
+    private EOF eof;
+
+    /**
+     * Maps a file and indexes its blocks.
+     *
+     * @param path    the path of the file
+     * @param charset the charset of the file
+     * @throws IOException if the file cannot be read, or has more characters than a sequence can hold
+     */
+    public MappedSource(Path path, Charset charset) throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            this.byteSize = channel.size();
+            this.regions = new MappedByteBuffer[(int) ((this.byteSize + REGION_SIZE - 1) / REGION_SIZE)];
+
+            for (int i = 0; i < this.regions.length; i++) {
+                long start = i * REGION_SIZE;
+                this.regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(REGION_SIZE + REGION_OVERLAP, this.byteSize - start));
+            }
+        }
+
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        this.index();
+    }
+
+    /**
+     * Decodes the whole file once to record the offsets of every block.
+     *
+     * @throws IOException if the file has more characters than a sequence can hold
+     */
+    private void index() throws IOException {
+
+        CharBuffer buffer = CharBuffer.allocate(BLOCK_SIZE);
+        long byteOffset = 0;
+        long charOffset = 0;
+
+        this.blockBytes = new long[16];
+        this.blockChars = new int[16];
+
+        while (byteOffset < this.byteSize) {
+            long consumed = this.decode(byteOffset, buffer);
+            if (consumed == 0) break;
+            if (buffer.position() > 0) this.addBlock(byteOffset, (int) charOffset);
+            byteOffset += consumed;
+            charOffset += buffer.position();
+            if (charOffset >= Integer.MAX_VALUE) throw new IOException("File has too many characters to be parsed");
+        }
+
+        this.blockBytes = Arrays.copyOf(this.blockBytes, this.blockCount + 1);
+        this.blockChars = Arrays.copyOf(this.blockChars, this.blockCount + 1);
+        this.blockBytes[this.blockCount] = byteOffset;
+        this.blockChars[this.blockCount] = (int) charOffset;
+        this.tokens = new IToken<?>[this.blockCount][];
+    }
+
+    /**
+     * Records the start of a block.
+     *
+     * @param byteOffset the byte offset of the block
+     * @param charOffset the character index of the block
+     */
+    private void addBlock(long byteOffset, int charOffset) {
+        if (this.blockCount + 1 >= this.blockBytes.length) {
+            this.blockBytes = Arrays.copyOf(this.blockBytes, this.blockBytes.length * 2);
+            this.blockChars = Arrays.copyOf(this.blockChars, this.blockChars.length * 2);
+        }
+        this.blockBytes[this.blockCount] = byteOffset;
+        this.blockChars[this.blockCount] = charOffset;
+        this.blockCount++;
+    }
+
+    /**
+     * Decodes the characters starting at a byte offset until the buffer is full.
+     *
+     * @param byteOffset the byte offset to decode from
+     * @param buffer     the buffer receiving the characters
+     * @return the number of bytes consumed
+     */
+    private long decode(long byteOffset, CharBuffer buffer) {
+
+        ByteBuffer region = this.regions[(int) (byteOffset / REGION_SIZE)].duplicate();
+        int start = (int) (byteOffset % REGION_SIZE);
+        boolean endOfInput = (byteOffset - start) + region.limit() == this.byteSize;
+
+        region.position(start);
+        buffer.clear();
+        this.decoder.reset();
+        this.decoder.decode(region, buffer, endOfInput);
+        if (endOfInput && !region.hasRemaining()) this.decoder.flush(buffer);
+
+        return region.position() - start;
+    }
+
+    /**
+     * Finds the block holding a character.
+     *
+     * @param position the index of the character
+     * @return the index of the block
+     */
+    private int blockOf(int position) {
+        if (this.lastBlock >= 0 && position >= this.blockChars[this.lastBlock] && position < this.blockChars[this.lastBlock + 1]) {
+            return this.lastBlock;
+        }
+        int found = Arrays.binarySearch(this.blockChars, 0, this.blockCount, position);
+        return (found >= 0) ? found : -found - 2;
+    }
+
+    /**
+     * Returns the decoded characters of a block, decoding it if it is not cached.
+     *
+     * @param block the index of the block
+     * @return the characters of the block
+     */
+    private char[] chars(int block) {
+
+        if (block == this.lastBlock) return this.lastChars;
+
+        char[] chars = this.decoded.get(block);
+
+        if (chars == null) {
+            CharBuffer buffer = CharBuffer.allocate(this.blockChars[block + 1] - this.blockChars[block]);
+            this.decode(this.blockBytes[block], buffer);
+            chars = buffer.array();
+            this.decoded.put(block, chars);
+        }
+
+        this.lastBlock = block;
+        this.lastChars = chars;
+        return chars;
+    }
+
+    /**
+     * Returns the number of characters in the file.
+     *
+     * @return the number of characters
+     */
+    public int getLength() {
+        return this.blockChars[this.blockCount];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return this.getLength() + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IToken<?> get(int position) {
+
+        if (position == this.getLength()) {
+            if (this.eof == null) this.eof = new EOF(position);
+            return this.eof;
+        }
+
+        int block = this.blockOf(position);
+        int offset = position - this.blockChars[block];
+
+        if (this.tokens[block] == null) this.tokens[block] = new IToken<?>[this.blockChars[block + 1] - this.blockChars[block]];
+
+        IToken<?> token = this.tokens[block][offset];
+
+        if (token == null) {
+            token = new Atom(this.chars(block)[offset], position);
+            this.tokens[block][offset] = token;
+        }
+
+        return token;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getChar(int position) {
+        if (position == this.getLength()) return -1;
+        int block = this.blockOf(position);
+        return this.chars(block)[position - this.blockChars[block]];
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The characters are decoded from the mapped file, without creating any token.
+     */
+    @Override
+    public String getRaw(int from, int to) {
+
+        to = Math.min(to, this.getLength());
+
+        StringBuilder builder = new StringBuilder(Math.max(0, to - from));
+
+        while (from < to) {
+            int block = this.blockOf(from);
+            int offset = from - this.blockChars[block];
+            int count = Math.min(to, this.blockChars[block + 1]) - from;
+            builder.append(this.chars(block), offset, count);
+            from += count;
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,287 @@
+package com.vijie.core.sources;
+
+import com.vijie.core.errors.IndexOutOfRange;
+import com.vijie.core.interfaces.ITokenSource;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.symbols.Atom;
+import com.vijie.core.symbols.EOF;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * A source reading its characters from a stream as they are requested.
+ * <p>
+ * The characters are held in a window that starts at the oldest position still needed:
+ * the position of the oldest mark, or the last released position if there is no mark.
+ * Everything before the window is discarded as the window is refilled, so the memory
+ * used is bounded by the distance to the deepest open backtrack point rather than by
+ * the size of the stream. Requesting a discarded position throws an {@link IllegalStateException}.
+ * <p>
+ * The size of the source is only known once the stream is read to its end. The stream
+ * is not closed by the source.
+ */
+public final class StreamSource implements ITokenSource {
+
+    /**
+     * The initial capacity of the window, and the maximum number of characters read at once.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The stream of characters.
+     */
+    private final Reader reader;
+
+    /**
+     * The characters of the window.
+     */
+    private char[] chars = new char[BUFFER_SIZE];
+
+    /**
+     * The tokens of the window already requested.
+     */
+    private IToken<?>[] tokens = new IToken<?>[BUFFER_SIZE];
+
+    /**
+     * The position of the first character of the window.
+     */
+    private int base;
+
+    /**
+     * The number of characters in the window.
+     */
+    private int count;
+
+    /**
+     * Whether the end of the stream has been reached.
+     */
+    private boolean ended;
+
+    /**
+     * The EOF token, created on request.
+     */
+    private EOF eof;
+
+    /**
+     * The positions of the open marks, from the oldest to the newest.
+     */
+    private int[] marks = new int[16];
+
+    /**
+     * The number of open marks.
+     */
+    private int markCount;
+
+    /**
+     * The last released position.
+     */
+    private int released;
+
+    /**
+     * Constructs a source over a character stream.
+     *
+     * @param reader the character stream
+     */
+    public StreamSource(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Constructs a source over a byte stream.
+     *
+     * @param input   the byte stream
+     * @param charset the charset of the stream
+     */
+    public StreamSource(InputStream input, Charset charset) {
+        this(new InputStreamReader(input, charset));
+    }
+
+    /**
+     * Returns the oldest position that may still be requested.
+     *
+     * @return the oldest retained position
+     */
+    private int getFloor() {
+        int floor = this.released;
+        for (int i = 0; i < this.markCount; i++) floor = Math.min(floor, this.marks[i]);
+        return floor;
+    }
+
+    /**
+     * Reads the stream until the given position is in the window or the stream ends.
+     *
+     * @param position the position to read
+     */
+    private void fill(int position) {
+        while (!this.ended && position >= this.base + this.count) this.read();
+    }
+
+    /**
+     * Reads the next characters of the stream, making room in the window first if it is full.
+     */
+    private void read() {
+
+        if (this.count == this.chars.length) this.compact();
+
+        try {
+            int read = this.reader.read(this.chars, this.count, this.chars.length - this.count);
+            if (read < 0) this.ended = true;
+            else this.count += read;
+        } catch (IOException error) {
+            throw new UncheckedIOException(error);
+        }
+    }
+
+    /**
+     * Discards the characters before the oldest retained position, and grows the window
+     * if less than half of it is freed.
+     */
+    private void compact() {
+
+        int drop = Math.clamp(this.getFloor() - this.base, 0, this.count);
+        int kept = this.count - drop;
+        int capacity = (kept < this.chars.length / 2) ? this.chars.length : this.chars.length * 2;
+
+        char[] chars = (capacity == this.chars.length) ? this.chars : new char[capacity];
+        IToken<?>[] tokens = (capacity == this.tokens.length) ? this.tokens : new IToken<?>[capacity];
+
+        System.arraycopy(this.chars, drop, chars, 0, kept);
+        System.arraycopy(this.tokens, drop, tokens, 0, kept);
+        if (tokens == this.tokens) Arrays.fill(tokens, kept, this.count, null);
+
+        this.chars = chars;
+        this.tokens = tokens;
+        this.base += drop;
+        this.count = kept;
+    }
+
+    /**
+     * Checks that a position has not been discarded.
+     *
+     * @param position the position to check
+     * @throws IllegalStateException if the position was discarded
+     */
+    private void check(int position) {
+        if (position < this.base) throw new IllegalStateException("Position %d was discarded from the stream".formatted(position));
+    }
+
+    /**
+     * Returns the number of characters currently held in memory.
+     *
+     * @return the size of the window
+     */
+    public int getWindowSize() {
+        return this.count;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The stream is read to its end.
+     */
+    @Override
+    public int size() {
+        while (!this.ended) this.read();
+        return this.base + this.count + 1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean has(int position) {
+        this.fill(position);
+        return position < this.base + this.count || (this.ended && position == this.base + this.count);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public IToken<?> get(int position) {
+
+        this.check(position);
+        this.fill(position);
+
+        if (position >= this.base + this.count) {
+            if (!this.ended || position > this.base + this.count) throw new IndexOutOfRange(position);
+            if (this.eof == null) this.eof = new EOF(position);
+            return this.eof;
+        }
+
+        IToken<?> token = this.tokens[position - this.base];
+
+        if (token == null) {
+            token = new Atom(this.chars[position - this.base], position);
+            this.tokens[position - this.base] = token;
+        }
+
+        return token;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getChar(int position) {
+        this.check(position);
+        this.fill(position);
+        if (position >= this.base + this.count) return -1;
+        return this.chars[position - this.base];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getRaw(int from, int to) {
+        this.check(from);
+        this.fill(to - 1);
+        int end = Math.min(to, this.base + this.count);
+        return new String(this.chars, from - this.base, Math.max(0, end - from));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStreamed() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mark(int position) {
+        if (this.markCount == this.marks.length) this.marks = Arrays.copyOf(this.marks, this.markCount * 2);
+        this.marks[this.markCount++] = position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void unmark(int position) {
+        for (int i = this.markCount - 1; i >= 0; i--) {
+            if (this.marks[i] != position) continue;
+            System.arraycopy(this.marks, i + 1, this.marks, i, this.markCount - i - 1);
+            this.markCount--;
+            return;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void release(int position) {
+        this.released = position;
+    }
+}
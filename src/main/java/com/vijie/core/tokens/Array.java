@@ -134,23 +134,32 @@ public abstract class Array<V, T extends IToken<?>> extends NodeToken<V> impleme
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The targets are parsed until one does not match, without building its error.
      */
     @Override
-    public void parse() throws BaseParseError {
+    public boolean match() throws BaseParseError {
 
         while (this.loop()) {
+            int mark = this.sequence.mark();
             try {
-                this.sequence.parseAndStep(this, this.target);
-            } catch (OptionalNotFound _) {
-            } catch (GenericParseError e) {
-                break;
+                if (!this.sequence.matchAndStep(this, this.target).isSuccess()) break;
+            } finally {
+                this.sequence.unmark(mark);
             }
         }
 
         this.sequence.clearFrom();
 
-        if (this.getSize() < this.extentMin) throw new UndersizedArrayError(this.sequence);
+        return this.getSize() >= this.extentMin;
+    }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void parse() throws BaseParseError {
+        if (!this.match()) throw new UndersizedArrayError(this.sequence);
     }
 
     /**
@@ -1,8 +1,12 @@
 package com.vijie.core.tokens;
 
+import com.vijie.core.CharClass;
 import com.vijie.core.NodeToken;
+import com.vijie.core.ParseResult;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.errors.Failures;
+import com.vijie.core.errors.OptionalNotFound;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.IParser;
 import com.vijie.core.interfaces.ISingleTokenCompositeToken;
@@ -50,7 +54,50 @@ public abstract class Cast<V, W, T extends IToken<W>>
      * {@inheritDoc}
      */
     @Override
+    public CharClass getFirst() {
+        return this.target.getFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNullable() {
+        return this.target.isNullable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean match() throws BaseParseError {
+
+        ParseResult<? extends T> result = this.sequence.matchAndStep(this, this.target);
+
+        if (result.isFailure()) return false;
+
+        // An optional target that is not found throws its absence, without being parsed again.
+        if (result.isAbsent()) throw new OptionalNotFound(this.sequence, this.sequence.getFailure(this.target), this.target);
+
+        this.sequence.clearFrom();
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In {@link Failures.Mode#FARTHEST} mode, the target is matched and its error is built from
+     * the farthest failure, so that it is parsed once.
+     */
+    @Override
     public void parse() throws BaseParseError {
+
+        if (this.sequence.getErrorMode() == Failures.Mode.FARTHEST) {
+            if (!this.match()) throw this.sequence.getFailure(this.target);
+            return;
+        }
+
         this.sequence.parseAndStep(this, this.target);
         this.sequence.clearFrom();
     }
@@ -1,11 +1,13 @@
 package com.vijie.core.tokens;
 
 
+import com.vijie.core.CharClass;
 import com.vijie.core.NodeToken;
 import com.vijie.core.Sequence;
 import com.vijie.core.Utils;
 import com.vijie.core.errors.*;
 import com.vijie.core.interfaces.*;
+import com.vijie.core.parsers.Dispatch;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -73,10 +75,65 @@ public abstract class Chain<V, T extends IToken<?>> extends NodeToken<V>
 
     /**
      * {@inheritDoc}
+     * <p>
+     * The first characters are the ones of the first target, and of the targets after it
+     * as long as they are optional.
+     */
+    @Override
+    public CharClass getFirst() {
+        return Dispatch.chain(this.targets);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNullable() {
+        return Dispatch.chainNullable(this.targets);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A target that does not match stops the chain without building its error.
+     */
+    @Override
+    public boolean match() throws BaseParseError {
+        return this.matchTargets() == null;
+    }
+
+    /**
+     * Matches the targets in order, until one does not match.
+     *
+     * @return the target that did not match, or null if every target matched
+     * @throws BaseParseError if the parse is interrupted
+     */
+    private IParser<? extends T> matchTargets() throws BaseParseError {
+
+        for (IParser<? extends T> target : this.targets) {
+            if (this.sequence.matchAndStep(this, target).isFailure()) return target;
+        }
+
+        this.sequence.clearFrom();
+
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * In {@link Failures.Mode#FARTHEST} mode, the targets are matched and the error of a target
+     * that does not match is built from the farthest failure, so that the chain is parsed once.
      */
     @Override
     public void parse() throws BaseParseError {
 
+        if (this.sequence.getErrorMode() == Failures.Mode.FARTHEST) {
+            IParser<? extends T> failed = this.matchTargets();
+            if (failed != null) throw this.sequence.getFailure(failed);
+            return;
+        }
+
         for (IParser<? extends T> target : this.targets) {
 
             try {
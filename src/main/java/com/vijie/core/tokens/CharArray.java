@@ -1,12 +1,17 @@
 package com.vijie.core.tokens;
 
+import com.vijie.core.CharClass;
 import com.vijie.core.Sequence;
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.errors.GenericFailedTokenError;
 import com.vijie.core.errors.IllegalExtentRangeException;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.IParser;
 import com.vijie.core.interfaces.IToken;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Collectors;
 
 
@@ -15,12 +20,27 @@ import java.util.stream.Collectors;
  * <p>
  * This abstract class is a specialization of the `Array` class and
  * accepts only character tokens.
+ * <p>
+ * When the target only accepts a single character from a class of characters, the class
+ * can be given to the constructor: the array then scans the run of characters straight from
+ * the sequence instead of parsing a token for each of them. The array holds the characters
+ * until its tokens are requested, at which point the target is parsed on each of them.
  *
  * @param <V> the type of the value
  * @param <T> the type of the token, which extends IToken<Character>
  */
 public abstract class CharArray<V, T extends IToken<Character>> extends Array<V, T> {
 
+    /**
+     * The class of characters accepted by the target, or null if the target must be parsed.
+     */
+    protected final CharClass charClass;
+
+    /**
+     * Whether the array holds its characters rather than the tokens of its target.
+     */
+    private boolean compact;
+
     /**
      * Constructs a CharArray instance with the specified parameters.
      *
@@ -36,7 +56,28 @@ public abstract class CharArray<V, T extends IToken<Character>> extends Array<V,
                      IParser<? extends T> target,
                      int extentMin,
                      int extentMax) throws IllegalExtentRangeException {
+        this(parent, sequence, target, null, extentMin, extentMax);
+    }
+
+    /**
+     * Constructs a CharArray instance scanning a class of characters.
+     *
+     * @param parent the parent composite that this CharArray belongs to
+     * @param sequence the sequence of characters to be parsed
+     * @param target the target parser, accepting exactly one character of the class
+     * @param charClass the class of characters accepted by the target, or null to parse the target
+     * @param extentMin the minimum extent of the character array
+     * @param extentMax the maximum extent of the character array
+     * @throws IllegalExtentRangeException if the extent range is invalid
+     */
+    protected CharArray(ICompositeToken<?> parent,
+                        Sequence sequence,
+                        IParser<? extends T> target,
+                        CharClass charClass,
+                        int extentMin,
+                        int extentMax) throws IllegalExtentRangeException {
         super(parent, sequence, target, extentMin, extentMax);
+        this.charClass = charClass;
     }
 
     /**
@@ -50,7 +91,115 @@ public abstract class CharArray<V, T extends IToken<Character>> extends Array<V,
     protected CharArray(ICompositeToken<?> parent,
                         Sequence sequence,
                         IParser<? extends T> target) throws IllegalExtentRangeException {
-        super(parent, sequence, target);
+        this(parent, sequence, target, null, 1, 0);
+    }
+
+    /**
+     * Gets the class of characters scanned by the array.
+     *
+     * @return the class of characters, or null if the target is parsed
+     */
+    public CharClass getCharClass() {
+        return this.charClass;
+    }
+
+    /**
+     * Checks if the array holds its characters rather than the tokens of its target.
+     *
+     * @return true if the tokens are not parsed yet, false otherwise
+     */
+    public boolean isCompact() {
+        return this.compact;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public CharClass getFirst() {
+        return (this.charClass != null) ? this.charClass : this.target.getFirst();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNullable() {
+        return this.charClass == null && this.target.isNullable();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * With a class of characters, the run of characters of the class is scanned
+     * without parsing the target.
+     */
+    @Override
+    public boolean match() throws BaseParseError {
+
+        if (this.charClass == null) return super.match();
+
+        this.sequence.skip(this.charClass, this.extentMax);
+
+        this.sequence.clearFrom();
+
+        if (this.getSize() < this.extentMin) return false;
+
+        this.compact = true;
+        return true;
+    }
+
+    /**
+     * Parses the target on each character held by a compact array.
+     */
+    private void expand() {
+
+        if (!this.compact) return;
+
+        this.compact = false;
+        this.sequence.setPointer(0);
+
+        String message = "Target does not match the class of characters %s".formatted(this.charClass);
+
+        try {
+            if (!super.match()) throw new IllegalStateException(message);
+        } catch (BaseParseError error) {
+            throw new IllegalStateException(message, error);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The tokens of a compact array are parsed on the first request.
+     */
+    @Override
+    public IToken<?>[] getContent() {
+        this.expand();
+        return super.getContent();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A compact array has no error, since all its characters are in the class.
+     */
+    @Override
+    public List<GenericFailedTokenError> getErrors() {
+        if (this.compact) return new ArrayList<>();
+        return super.getErrors();
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The values of a compact array are read from its characters.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <W extends V> W[] getValues() {
+        if (!this.compact) return super.getValues();
+        return (W[]) this.sequence.getRaw().chars().mapToObj(c -> (char) c).toArray(Object[]::new);
     }
 
     /**
@@ -59,6 +208,7 @@ public abstract class CharArray<V, T extends IToken<Character>> extends Array<V,
      * @return the joined string
      */
     public String getJoin() {
+        if (this.compact) return this.sequence.getRaw();
         return Arrays
                 .stream(this.getValues())
                 .map(String::valueOf)
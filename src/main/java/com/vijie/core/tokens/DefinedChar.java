@@ -1,12 +1,12 @@
 package com.vijie.core.tokens;
 
 
+import com.vijie.core.CharClass;
 import com.vijie.core.symbols.Atom;
 import com.vijie.core.NodeToken;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.*;
 import com.vijie.core.interfaces.ICompositeToken;
-import com.vijie.core.interfaces.IToken;
 import com.vijie.core.parsers.Factory;
 
 import static org.apache.commons.text.StringEscapeUtils.escapeJava;
@@ -26,6 +26,16 @@ public class DefinedChar extends NodeToken<Character> {
         return Factory.of(DefinedChar.class, whitelist);
     }
 
+    /**
+     * Creates a factory for DefinedChar with a specified class of characters.
+     *
+     * @param charClass the class of characters allowed
+     * @return a Factory instance for DefinedChar
+     */
+    public static Factory<DefinedChar> parser(CharClass charClass) {
+        return Factory.of(DefinedChar.class, charClass);
+    }
+
     /**
      * Creates a factory for DefinedChar with a specified character.
      *
@@ -41,6 +51,11 @@ public class DefinedChar extends NodeToken<Character> {
      */
     protected final String whitelist;
 
+    /**
+     * The class of characters allowed, matching the whitelist.
+     */
+    protected final CharClass charClass;
+
     /**
      * Constructs a DefinedChar node.
      *
@@ -51,6 +66,21 @@ public class DefinedChar extends NodeToken<Character> {
     public DefinedChar(ICompositeToken<?> parent, Sequence sequence, String whitelist) {
         super(parent, sequence);
         this.whitelist = whitelist;
+        this.charClass = CharClass.of(whitelist);
+    }
+
+    /**
+     * Constructs a DefinedChar node from a class of characters.
+     * The whitelist is the string representation of the class.
+     *
+     * @param parent    the parent composite node
+     * @param sequence  the sequence to parse
+     * @param charClass the class of characters allowed
+     */
+    public DefinedChar(ICompositeToken<?> parent, Sequence sequence, CharClass charClass) {
+        super(parent, sequence);
+        this.whitelist = charClass.toString();
+        this.charClass = charClass;
     }
 
     /**
@@ -62,6 +92,15 @@ public class DefinedChar extends NodeToken<Character> {
         return this.whitelist;
     }
 
+    /**
+     * Gets the class of characters allowed.
+     *
+     * @return the class of characters
+     */
+    public CharClass getCharClass() {
+        return this.charClass;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -74,25 +113,48 @@ public class DefinedChar extends NodeToken<Character> {
      * {@inheritDoc}
      */
     @Override
-    public void parse() throws BaseParseError {
-
-        if (this.sequence.isEof()) throw new EOFParseError(this.sequence);
+    public CharClass getFirst() {
+        return this.charClass;
+    }
 
-        IToken<?> current = this.sequence.getCurrent();
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean match() {
 
-        if (!current.matches(Atom.class)) {
-            throw new ExpectedGlyphError(sequence, current);
-        }
+        int current = this.sequence.getCurrentChar();
 
-        if (!this.whitelist.contains(current.getRaw())) {
-            throw new InvalidCharError(sequence, whitelist, (Character) current.getValue());
-        }
+        if (current < 0 || !this.charClass.contains(current)) return false;
 
-        ((Atom) current).setParent(this);
+        ((Atom) this.sequence.getCurrent()).setParent(this);
 
         this.sequence.next();
         this.sequence.clearFrom();
 
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The character is checked again to throw the error only when it does not match.
+     */
+    @Override
+    public void parse() throws BaseParseError {
+
+        if (this.match()) return;
+
+        if (this.sequence.isEof()) throw new EOFParseError(this.sequence);
+
+        int current = this.sequence.getCurrentChar();
+
+        if (current < 0) {
+            throw new ExpectedGlyphError(sequence, this.sequence.getCurrent());
+        }
+
+        throw new InvalidCharError(sequence, whitelist, (char) current);
+
     }
 
     @Override
@@ -1,6 +1,6 @@
 package com.vijie.core.tokens;
 
-
+import com.vijie.core.CharClass;
 import com.vijie.core.Sequence;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.parsers.Factory;
@@ -10,6 +10,11 @@ import com.vijie.core.parsers.Factory;
  */
 public final class Digit extends DefinedChar {
 
+    /**
+     * The class of the digits.
+     */
+    public static final CharClass DIGITS = CharClass.range('0', '9');
+
     /**
      * Creates a factory for the Digit class.
      *
@@ -26,7 +31,7 @@ public final class Digit extends DefinedChar {
      * @param sequence the sequence of characters
      */
     public Digit(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, "0123456789");
+        super(parent, sequence, DIGITS);
     }
 
 }
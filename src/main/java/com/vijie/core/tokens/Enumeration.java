@@ -1,19 +1,51 @@
 package com.vijie.core.tokens;
 
 import com.vijie.core.Sequence;
+import com.vijie.core.Trie;
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.errors.Failures;
+import com.vijie.core.errors.ParserError;
+import com.vijie.core.errors.UnionError;
 import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
 import com.vijie.core.parsers.Factory;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
 /**
  * Represents an enumeration of literals.
  * <p>
  * This abstract class extends the Union class to handle multiple literal types.
+ * The literals are compiled into a {@link Trie} that is walked once over the input,
+ * and only the literal it matches is parsed. When several literals match, the first
+ * declared one is chosen by default, like a Union would; the longest one can be chosen instead.
  *
  * @param <V> the type of the value
  * @param <T> the type of the literal, which extends Literal<V>
  */
 public abstract class Enumeration<V, T extends Literal<V>> extends Union<V, T> {
 
+    /**
+     * The tree of the literals of some targets.
+     *
+     * @param trie the tree of their literals, or null if a literal could not be read
+     */
+    private record Compiled(Trie trie) {}
+
+    /**
+     * The compiled literals of the targets already seen, by array of targets. The arrays are
+     * weakly held, so that the tree of a grammar is released with it.
+     */
+    private static final Map<IParser<?>[], Compiled> TRIES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * The literal chosen when several literals match.
+     */
+    protected final Trie.Match match;
+
     /**
      * Constructs an Enumeration instance.
      *
@@ -22,8 +54,146 @@ public abstract class Enumeration<V, T extends Literal<V>> extends Union<V, T> {
      * @param targets an array of parsers for the literals
      */
     public Enumeration(ICompositeToken<?> parent, Sequence sequence, Factory<? extends T>[] targets) {
+        this(parent, sequence, targets, Trie.Match.FIRST);
+    }
+
+    /**
+     * Constructs an Enumeration instance with the literal to choose when several literals match.
+     *
+     * @param parent the parent composite
+     * @param sequence the sequence
+     * @param targets an array of parsers for the literals
+     * @param match the literal to choose when several literals match
+     */
+    public Enumeration(ICompositeToken<?> parent, Sequence sequence, Factory<? extends T>[] targets, Trie.Match match) {
         super(parent, sequence, targets);
+        this.match = match;
     }
 
-}
+    /**
+     * Returns the literal chosen when several literals match.
+     *
+     * @return the match mode of the enumeration
+     */
+    public Trie.Match getMatch() {
+        return this.match;
+    }
+
+    /**
+     * Returns the tree of the literals of the targets.
+     * The literals are read from tokens instantiated by the targets once per array of targets,
+     * and the tree is shared by the enumerations holding that array.
+     *
+     * @return the tree of the literals, or null if a literal could not be read
+     */
+    protected Trie getTrie() {
+
+        Compiled compiled = TRIES.get(this.targets);
+
+        if (compiled == null) {
+            compiled = new Compiled(this.compile());
+            Compiled previous = TRIES.putIfAbsent(this.targets, compiled);
+            if (previous != null) compiled = previous;
+        }
+
+        return compiled.trie();
+    }
 
+    /**
+     * Reads the literals of the targets and compiles them into a tree.
+     *
+     * @return the tree of the literals, or null if a literal could not be read
+     */
+    @SuppressWarnings("unchecked")
+    private Trie compile() {
+        try {
+            return Trie.of(Arrays.stream(this.targets)
+                    .map(target -> ((Factory<? extends T>) target).instantiateToken(null, Sequence.fromString("")).getLiteral())
+                    .toArray(String[]::new));
+        } catch (RuntimeException _) {
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the target of the literal matched by the tree is parsed.
+     */
+    @Override
+    public boolean match() throws BaseParseError {
+
+        Trie trie = this.getTrie();
+
+        if (trie == null) return super.match();
+
+        int index = trie.match(this.sequence, this.match);
+
+        if (index < 0) return false;
+
+        int mark = this.sequence.mark();
+
+        try {
+            if (this.sequence.match(parent, this.targets[index]).isFailure()) return false;
+        } finally {
+            this.sequence.unmark(mark);
+        }
+
+        this.sequence.clearRemainder();
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the target of the literal matched by the tree is parsed. In
+     * {@link Failures.Mode#FARTHEST} mode, it is matched and its error is built from the
+     * farthest failure, so that it is parsed once.
+     */
+    @Override
+    public void parse() throws BaseParseError {
+
+        Trie trie = this.getTrie();
+
+        if (trie == null) {
+            super.parse();
+            return;
+        }
+
+        int index = trie.match(this.sequence, this.match);
+
+        Failures failures = new Failures(this.sequence.getErrorMode());
+
+        if (index < 0) {
+            for (IParser<? extends T> target : this.targets) failures.expect(this.sequence.getCurrentIndex(), target);
+            throw new UnionError(this, Factory.getTypes(this.targets), failures);
+        }
+
+        int mark = this.sequence.mark();
+
+        if (this.sequence.getErrorMode() == Failures.Mode.FARTHEST) {
+            try {
+                if (this.sequence.match(parent, this.targets[index]).isFailure()) {
+                    throw new UnionError(this, Factory.getTypes(this.targets), this.sequence.getFailures());
+                }
+            } finally {
+                this.sequence.unmark(mark);
+            }
+            this.sequence.clearRemainder();
+            return;
+        }
+
+        try {
+            this.sequence.parse(parent, this.targets[index]);
+        } catch (ParserError error) {
+            failures.add(error);
+            throw new UnionError(this, Factory.getTypes(this.targets), failures);
+        } finally {
+            this.sequence.unmark(mark);
+        }
+
+        this.sequence.clearRemainder();
+    }
+
+}
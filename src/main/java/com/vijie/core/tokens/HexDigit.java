@@ -1,6 +1,6 @@
 package com.vijie.core.tokens;
 
-
+import com.vijie.core.CharClass;
 import com.vijie.core.Sequence;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.parsers.Factory;
@@ -10,6 +10,11 @@ import com.vijie.core.parsers.Factory;
  */
 public final class HexDigit extends DefinedChar {
 
+    /**
+     * The class of the hexadecimal digits.
+     */
+    public static final CharClass HEX_DIGITS = CharClass.range('0', '9').union(CharClass.range('A', 'F')).union(CharClass.range('a', 'f'));
+
     /**
      * Creates a factory for the Digit class.
      *
@@ -26,7 +31,7 @@ public final class HexDigit extends DefinedChar {
      * @param sequence the sequence of characters
      */
     public HexDigit(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, "0123456789ABCDEFabcdef");
+        super(parent, sequence, HEX_DIGITS);
     }
 
 }
@@ -27,7 +27,7 @@ public final class HexNumeric extends CharArray<String, HexDigit> {
      * @param sequence the sequence of characters
      */
     public HexNumeric(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, HexDigit.parser(), 1, 0);
+        super(parent, sequence, HexDigit.parser(), HexDigit.HEX_DIGITS, 1, 0);
     }
 
     /**
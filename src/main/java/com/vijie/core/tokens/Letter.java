@@ -1,6 +1,7 @@
 package com.vijie.core.tokens;
 
 
+import com.vijie.core.CharClass;
 import com.vijie.core.Sequence;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.parsers.Factory;
@@ -12,6 +13,11 @@ import com.vijie.core.parsers.Factory;
  */
 public final class Letter extends Union<Character, ICompositeToken<Character>> {
 
+    /**
+     * The class of the letters.
+     */
+    public static final CharClass LETTERS = Uppercase.UPPERCASE.union(Lowercase.LOWERCASE);
+
     /**
      * Creates a factory for the Letter class.
      *
@@ -34,6 +40,11 @@ public final class Letter extends Union<Character, ICompositeToken<Character>> {
         };
     }
 
+    /**
+     * The target parsers, shared by every Letter so that they share their table.
+     */
+    private static final Factory<? extends ICompositeToken<Character>>[] TARGETS = Letter.constructTargets();
+
     /**
      * Constructs a new Letter instance.
      *
@@ -41,7 +52,7 @@ public final class Letter extends Union<Character, ICompositeToken<Character>> {
      * @param sequence the sequence associated with this Letter
      */
     public Letter(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, Letter.constructTargets());
+        super(parent, sequence, TARGETS);
     }
 
 }
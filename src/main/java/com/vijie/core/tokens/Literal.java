@@ -1,6 +1,7 @@
 package com.vijie.core.tokens;
 
 
+import com.vijie.core.CharClass;
 import com.vijie.core.symbols.Atom;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.*;
@@ -50,19 +51,61 @@ public abstract class Literal<V> extends CharArray<V, Atom> {
         return literal;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The first character of a literal is the first character of its string.
+     */
+    @Override
+    public CharClass getFirst() {
+        return CharClass.range(this.literal.charAt(0), this.literal.charAt(0));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The literal is compared with the characters of the sequence in place, and the
+     * comparison stops at the first character that differs. The characters become
+     * the content of the literal only when they all match.
+     */
+    @Override
+    public boolean match() {
+
+        int length = this.literal.length();
+
+        for (int offset = 0; offset < length; offset++) {
+            if (this.sequence.peekChar(offset) != this.literal.charAt(offset)) return false;
+        }
+
+        this.sequence.move(length);
+        this.sequence.clearFrom();
+
+        return true;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void parse() throws BaseParseError {
+        if (!this.match()) throw new LiteralDoesNotMatch(this.sequence, this.literal, this.getFound());
+    }
+
+    /**
+     * Reads the characters found in place of the literal, up to its length.
+     *
+     * @return the characters found
+     */
+    private String getFound() {
 
-        try {
-            super.parse();
-        } catch (UndersizedArrayError _) {}
+        StringBuilder found = new StringBuilder(this.literal.length());
 
-        if (!(this.getJoin().equals(this.literal))) {
-            throw new LiteralDoesNotMatch(this.sequence, this.literal, this.getJoin());
+        for (int offset = 0; offset < this.literal.length(); offset++) {
+            int current = this.sequence.peekChar(offset);
+            if (current < 0) break;
+            found.append((char) current);
         }
 
+        return found.toString();
     }
 }
@@ -1,6 +1,6 @@
 package com.vijie.core.tokens;
 
-
+import com.vijie.core.CharClass;
 import com.vijie.core.Sequence;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.parsers.Factory;
@@ -10,6 +10,11 @@ import com.vijie.core.parsers.Factory;
  */
 public final class Lowercase extends DefinedChar {
 
+    /**
+     * The class of the lowercase letters.
+     */
+    public static final CharClass LOWERCASE = CharClass.range('a', 'z');
+
     /**
      * Creates a parser for the Lowercase class.
      *
@@ -26,7 +31,7 @@ public final class Lowercase extends DefinedChar {
      * @param sequence the sequence of characters
      */
     public Lowercase(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, "abcdefghijklmnopqrstuvwxyz");
+        super(parent, sequence, LOWERCASE);
     }
 
 }
@@ -27,7 +27,7 @@ public final class Numeric extends CharArray<String, Digit> {
      * @param sequence the sequence of characters
      */
     public Numeric(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, Digit.parser(), 1, 0);
+        super(parent, sequence, Digit.parser(), Digit.DIGITS, 1, 0);
     }
 
     /**
@@ -1,6 +1,7 @@
 package com.vijie.core.tokens;
 
 
+import com.vijie.core.CharClass;
 import com.vijie.core.NodeToken;
 import com.vijie.core.Sequence;
 import com.vijie.core.Utils;
@@ -9,12 +10,11 @@ import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.IMultiTargetCompositeToken;
 import com.vijie.core.interfaces.IParser;
 import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Dispatch;
 import com.vijie.core.parsers.Factory;
 import com.vijie.core.parsers.Optional;
 
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 /**
  * Represents a chain of optional tokens.
@@ -74,21 +74,73 @@ public abstract class OptionsChain<V, T extends IToken<?>> extends NodeToken<V>
                 .toArray(Object[]::new);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Any target may come first, since every target is optional.
+     */
+    @Override
+    public CharClass getFirst() {
+        return Dispatch.union(this.targets);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNullable() {
+        return Dispatch.unionNullable(this.targets);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Each target is optional; the chain does not match if none of them is found.
+     * The start of the chain is marked while its targets are attempted, so that a streamed
+     * input is kept from there until the next target is attempted.
+     */
+    @Override
+    public boolean match() throws BaseParseError {
+
+        int mark = this.sequence.mark();
+
+        try {
+            for (IParser<? extends T> target : this.targets) {
+                if (!this.sequence.matchAndStep(this, target).isSuccess() && this.sequence.isCut()) return false;
+            }
+        } finally {
+            this.sequence.unmark(mark);
+        }
+
+        if (this.sequence.getPointer() == 0) return false;
+
+        this.sequence.clearFrom();
+
+        return true;
+    }
+
     /**
      * Parses the sequence using the chain of parsers.
+     * In {@link Failures.Mode#FARTHEST} mode, the parsers are matched and the error is built
+     * from the farthest failure, so that they are parsed once.
      *
      * @throws ParserError if a parsing error occurs
      */
     public void parse() throws BaseParseError {
 
-        List<ParserError> errors = new ArrayList<>();
+        if (this.sequence.getErrorMode() == Failures.Mode.FARTHEST) {
+            if (this.match()) return;
+            throw new EmptyChainError(this.sequence, Factory.getTypes(this.targets), this.sequence.getFailures());
+        }
+
+        Failures failures = new Failures(this.sequence.getErrorMode());
 
         for (IParser<? extends T> target : this.targets) {
 
             try {
                 this.sequence.parseAndStep(this, new Optional<>(target));
             } catch (OptionalNotFound error) {
-                errors.add(error.getCause());
+                failures.add(error.getCause());
             } /*catch (GenericParseError error) {
                 //if (error.isEof()) break;
                 if (this.sequence.isEof()) break;
@@ -99,7 +151,7 @@ public abstract class OptionsChain<V, T extends IToken<?>> extends NodeToken<V>
         this.sequence.clearFrom();
 
         if (this.getSize() == 0) {
-            throw new EmptyChainError(this.sequence, Factory.getTypes(this.targets), errors.toArray(ParserError[]::new));
+            throw new EmptyChainError(this.sequence, Factory.getTypes(this.targets), failures);
         }
 
     }
@@ -2,10 +2,14 @@ package com.vijie.core.tokens;
 
 
 import com.vijie.core.Sequence;
+import com.vijie.core.Trie;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.parsers.Factory;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Represents an enumeration of strings.
@@ -14,6 +18,12 @@ import java.util.Arrays;
  */
 public abstract class StringEnum extends Enumeration<String, StringLiteral> {
 
+    /**
+     * The parsers already built, by array of members. The arrays are weakly held, so that the
+     * parsers of an enumeration built at runtime are released with it.
+     */
+    private static final Map<String[], Factory<StringLiteral>[]> TARGETS = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Constructs an array of parsers for the given string literals.
      *
@@ -22,7 +32,7 @@ public abstract class StringEnum extends Enumeration<String, StringLiteral> {
      */
     @SuppressWarnings("unchecked")
     private static Factory<StringLiteral>[] constructTargets(String[] literals) {
-        return Arrays.stream(literals).map(StringLiteral::parser).toArray(Factory[]::new);
+        return TARGETS.computeIfAbsent(literals, _ -> Arrays.stream(literals).map(StringLiteral::parser).toArray(Factory[]::new));
     }
 
     private final String[] members;
@@ -35,7 +45,19 @@ public abstract class StringEnum extends Enumeration<String, StringLiteral> {
      * @param members the members of the enumeration
      */
     public StringEnum(ICompositeToken<?> parent, Sequence sequence, String[] members) {
-        super(parent, sequence, StringEnum.constructTargets(members));
+        this(parent, sequence, members, Trie.Match.FIRST);
+    }
+
+    /**
+     * Constructs a StringEnum with the member to choose when several members match.
+     *
+     * @param parent the parent composite
+     * @param sequence the sequence
+     * @param members the members of the enumeration
+     * @param match the member to choose when several members match
+     */
+    public StringEnum(ICompositeToken<?> parent, Sequence sequence, String[] members, Trie.Match match) {
+        super(parent, sequence, StringEnum.constructTargets(members), match);
         this.members = members;
     }
 
@@ -48,5 +70,14 @@ public abstract class StringEnum extends Enumeration<String, StringLiteral> {
         return this.members;
     }
 
-}
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The tree is built from the members, and shared by the enumerations holding the same array of members.
+     */
+    @Override
+    protected Trie getTrie() {
+        return Trie.of(this.members);
+    }
 
+}
@@ -1,13 +1,13 @@
 package com.vijie.core.tokens;
 
+import com.vijie.core.CharClass;
 import com.vijie.core.NodeToken;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.*;
 import com.vijie.core.interfaces.*;
+import com.vijie.core.parsers.Dispatch;
 import com.vijie.core.parsers.Factory;
 
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Represents a Union of tokens.
@@ -27,6 +27,11 @@ public abstract class Union<V, T extends IToken<V>> extends NodeToken<V>
      */
     protected final IParser<? extends T>[] targets;
 
+    /**
+     * The table of the targets by first character, found on the first parse.
+     */
+    private Dispatch<IParser<? extends T>> dispatch;
+
     /**
      * Constructs a Union node.
      *
@@ -67,23 +72,92 @@ public abstract class Union<V, T extends IToken<V>> extends NodeToken<V>
      * {@inheritDoc}
      */
     @Override
+    public CharClass getFirst() {
+        return Dispatch.union(this.targets);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNullable() {
+        return Dispatch.unionNullable(this.targets);
+    }
+
+    /**
+     * Returns the table of the targets by first character.
+     * The table is shared by the instances holding the same array of targets, so a Union
+     * built with new targets for each instance should keep them in a constant.
+     *
+     * @return the table of the targets
+     */
+    private Dispatch<IParser<? extends T>> getDispatch() {
+        if (this.dispatch == null) this.dispatch = Dispatch.of(this.targets);
+        return this.dispatch;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the targets that can start with the next character are attempted.
+     */
+    @Override
+    public boolean match() throws BaseParseError {
+
+        int mark = this.sequence.mark();
+
+        try {
+            for (IParser<? extends T> target : this.getDispatch().getCandidates(this.sequence.getCurrentChar())) {
+                if (this.sequence.match(parent, target).isFailure()) {
+                    if (this.sequence.isCut()) return false;
+                    continue;
+                }
+                this.sequence.clearRemainder();
+                return true;
+            }
+        } finally {
+            this.sequence.unmark(mark);
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Only the targets that can start with the next character are attempted. In
+     * {@link Failures.Mode#FARTHEST} mode, the targets are matched and the error is built from
+     * the farthest failure, so that they are parsed once; otherwise the error of each target is kept.
+     */
+    @Override
     public void parse() throws BaseParseError {
 
-        List<ParserError> errors = new ArrayList<>();
+        if (this.sequence.getErrorMode() == Failures.Mode.FARTHEST) {
+            if (this.match()) return;
+            throw new UnionError(this, Factory.getTypes(this.targets), this.sequence.getFailures());
+        }
+
+        Failures failures = new Failures(this.sequence.getErrorMode());
+        int mark = this.sequence.mark();
 
-        for (IParser<? extends T> target : targets) {
-            try {
-                this.sequence.parse(parent, target);
-            } catch (OptionalNotFound _) {
-            } catch (ParserError error) {
-                errors.add(error);
-                continue;
+        try {
+            for (IParser<? extends T> target : this.getDispatch().getCandidates(this.sequence.getCurrentChar())) {
+                try {
+                    this.sequence.parse(parent, target);
+                } catch (OptionalNotFound _) {
+                } catch (ParserError error) {
+                    if (this.sequence.isCut()) throw error;
+                    failures.add(error);
+                    continue;
+                }
+                this.sequence.clearRemainder();
+                return;
             }
-            this.sequence.clearRemainder();
-            return;
+        } finally {
+            this.sequence.unmark(mark);
         }
 
-        throw new UnionError(this, Factory.getTypes(this.targets), errors.toArray(ParserError[]::new));
+        throw new UnionError(this, Factory.getTypes(this.targets), failures);
 
     }
 }
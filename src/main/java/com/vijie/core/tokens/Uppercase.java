@@ -1,6 +1,6 @@
 package com.vijie.core.tokens;
 
-
+import com.vijie.core.CharClass;
 import com.vijie.core.Sequence;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.parsers.Factory;
@@ -10,6 +10,11 @@ import com.vijie.core.parsers.Factory;
  */
 public final class Uppercase extends DefinedChar {
 
+    /**
+     * The class of the uppercase letters.
+     */
+    public static final CharClass UPPERCASE = CharClass.range('A', 'Z');
+
     /**
      * Creates a factory for the Uppercase class.
      *
@@ -26,7 +31,7 @@ public final class Uppercase extends DefinedChar {
      * @param sequence the sequence of characters
      */
     public Uppercase(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, "ABCDEFGHIJKLMNOPQRSTUVWXYZ");
+        super(parent, sequence, UPPERCASE);
     }
 
 }
@@ -27,7 +27,7 @@ public class Word extends CharArray<String, Letter> {
      * @param sequence the sequence of characters
      */
     public Word(ICompositeToken<?> parent, Sequence sequence) {
-        super(parent, sequence, Letter.parser(), 1, 0);
+        super(parent, sequence, Letter.parser(), Letter.LETTERS, 1, 0);
     }
 
     /**
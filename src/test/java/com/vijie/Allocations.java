@@ -0,0 +1,65 @@
+package com.vijie;
+
+import com.sun.management.ThreadMXBean;
+import com.vijie.core.Root;
+import com.vijie.core.errors.BaseParseError;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * Measures the bytes allocated by the current thread while parsing.
+ */
+public final class Allocations {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** The number of parses measured, the cheapest of which is kept. */
+    private static final int RUNS = 5;
+
+    private Allocations() {
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far.
+     *
+     * @return the allocated bytes
+     */
+    public static long allocatedBytes() {
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Returns the bytes allocated by the parse of a Root.
+     * The Root is created before the measure, so only {@link Root#parse()} is counted.
+     *
+     * @param root the Root to parse
+     * @return the allocated bytes
+     * @throws BaseParseError if the parse fails
+     */
+    public static long parse(Root<?> root) throws BaseParseError {
+        long start = allocatedBytes();
+        root.parse();
+        return allocatedBytes() - start;
+    }
+
+    /**
+     * Returns the bytes allocated per input character by the parse of fresh Roots, after a
+     * warm-up parse. The cheapest of several parses is kept, so that the allocations of
+     * class loading and compilation are not counted.
+     *
+     * @param root   creates the Root to parse
+     * @param length the length of the input, in characters
+     * @return the allocated bytes per character
+     * @throws BaseParseError if a parse fails
+     */
+    public static double perChar(Supplier<Root<?>> root, int length) throws BaseParseError {
+
+        long bytes = Long.MAX_VALUE;
+
+        root.get().parse();
+        for (int run = 0; run < RUNS; run++) bytes = Math.min(bytes, parse(root.get()));
+
+        return (double) bytes / length;
+    }
+}
@@ -0,0 +1,24 @@
+package com.vijie;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.Array;
+
+public class DummyArray<T extends IToken<?>> extends Array<Object[], T> {
+
+    @SuppressWarnings("unchecked")
+    public static <T extends IToken<?>> Factory<DummyArray<T>> parser(Factory<? extends T> target) {
+        return Factory.of(DummyArray.class, target);
+    }
+
+    public DummyArray(ICompositeToken<?> parent, Sequence sequence, Factory<? extends T> target) {
+        super(parent, sequence, target);
+    }
+
+    @Override
+    public Object[] getValue() {
+        return this.getValues();
+    }
+}
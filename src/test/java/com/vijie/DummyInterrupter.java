@@ -0,0 +1,11 @@
+package com.vijie;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.errors.GenericInterrupter;
+
+public class DummyInterrupter extends GenericInterrupter {
+
+    public DummyInterrupter(Sequence sequence) {
+        super(sequence, "Invalid statement");
+    }
+}
@@ -0,0 +1,30 @@
+package com.vijie;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.parsers.Savior;
+import com.vijie.core.tokens.Chain;
+import com.vijie.core.tokens.StringLiteral;
+
+public class DummyLine extends Chain<String, IToken<?>> {
+
+    public static Factory<DummyLine> parser() {
+        return Factory.of(DummyLine.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DummyLine(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, new IParser[]{
+                new Savior<>(DummyStatement.parser(), StringLiteral.parser(";")),
+                StringLiteral.parser(";")
+        });
+    }
+
+    @Override
+    public String getValue() {
+        return String.valueOf(this.getContent()[0].getValue());
+    }
+}
@@ -0,0 +1,27 @@
+package com.vijie;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.parsers.Optional;
+import com.vijie.core.tokens.StringChain;
+import com.vijie.core.tokens.StringLiteral;
+
+public class DummyNested extends StringChain<IToken<String>> {
+
+    public static Factory<DummyNested> parser() {
+        return Factory.of(DummyNested.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DummyNested(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, new IParser[]{StringLiteral.parser("("), new Optional<>(parser()), StringLiteral.parser(")")});
+    }
+
+    @Override
+    public String getValue() {
+        return this.getJoin();
+    }
+}
@@ -0,0 +1,30 @@
+package com.vijie;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Any;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.StringChain;
+import com.vijie.core.tokens.StringLiteral;
+
+public class DummyParen extends StringChain<IToken<String>> {
+
+    public static int constructions;
+
+    public static Factory<DummyParen> parser() {
+        return Factory.of(DummyParen.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DummyParen(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, new IParser[]{StringLiteral.parser("("), Any.of(parser(), StringLiteral.parser("x")), StringLiteral.parser(")")});
+        constructions++;
+    }
+
+    @Override
+    public String getValue() {
+        return this.getJoin();
+    }
+}
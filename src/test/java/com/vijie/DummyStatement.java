@@ -0,0 +1,45 @@
+package com.vijie;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.errors.ParserError;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.Numeric;
+import com.vijie.core.tokens.StringChain;
+import com.vijie.core.tokens.StringLiteral;
+import com.vijie.core.tokens.Word;
+
+public class DummyStatement extends StringChain<IToken<String>> {
+
+    public static Factory<DummyStatement> parser() {
+        return Factory.of(DummyStatement.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    public DummyStatement(ICompositeToken<?> parent, Sequence sequence) {
+        super(parent, sequence, new IParser[]{Word.parser(), StringLiteral.parser("="), Numeric.parser()});
+    }
+
+    @Override
+    public boolean match() throws BaseParseError {
+        this.parse();
+        return true;
+    }
+
+    @Override
+    public void parse() throws BaseParseError {
+        try {
+            super.parse();
+        } catch (ParserError error) {
+            throw new DummyInterrupter(this.sequence);
+        }
+    }
+
+    @Override
+    public String getValue() {
+        return this.getJoin();
+    }
+}
@@ -0,0 +1,20 @@
+package com.vijie;
+
+import com.vijie.core.Sequence;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.Union;
+
+public class DummyStringUnion extends Union<String, IToken<String>> {
+
+    @SafeVarargs
+    public static Factory<DummyStringUnion> parser(IParser<? extends IToken<String>>... targets) {
+        return Factory.of(DummyStringUnion.class, (Object) targets);
+    }
+
+    public DummyStringUnion(ICompositeToken<?> parent, Sequence sequence, IParser<? extends IToken<String>>[] targets) {
+        super(parent, sequence, targets);
+    }
+}
@@ -0,0 +1,69 @@
+package com.vijie;
+
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.interfaces.IParser;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.tokens.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the bytes allocated per input character by the parse of the built-in tokens.
+ * <p>
+ * The budgets are about one and a half times the allocation measured when they were set,
+ * so that a change allocating noticeably more per character fails; lower them when the
+ * allocation of a token is reduced.
+ */
+public class TestAllocation {
+
+    /**
+     * Asserts that the parse of the whole input by a parser allocates at most a budget of
+     * bytes per character.
+     */
+    private static <V, T extends IToken<V>> void assertBudget(double budget, String input, IParser<T> target) throws BaseParseError {
+
+        RootParser<V, T> root = new RootParser<>(input, target, false);
+        root.parse();
+        assertEquals(input.length(), root.getToken().getLength());
+
+        double perChar = Allocations.perChar(() -> new RootParser<>(input, target, false), input.length());
+        assertTrue(perChar <= budget, "%.1f bytes per char, budget %.1f".formatted(perChar, budget));
+    }
+
+    @Test
+    void testDigitAllocation() throws BaseParseError {
+        String input = "0123456789".repeat(1_000);
+        assertBudget(450, input, DummyArray.parser(Digit.parser()));
+    }
+
+    @Test
+    void testLetterAllocation() throws BaseParseError {
+        String input = "abcdefghijKLMNOPQRST".repeat(500);
+        assertBudget(1_200, input, DummyArray.parser(Letter.parser()));
+    }
+
+    @Test
+    void testWordAllocation() throws BaseParseError {
+        String input = "abcdefghijKLMNOPQRST".repeat(500);
+        assertBudget(55, input, Word.parser());
+    }
+
+    @Test
+    void testStringLiteralAllocation() throws BaseParseError {
+        String input = "return".repeat(2_000);
+        assertBudget(130, input, DummyArray.parser(StringLiteral.parser("return")));
+    }
+
+    @Test
+    void testTrimAllocation() throws BaseParseError {
+        String input = "  alpha beta\tgamma ".repeat(500);
+        assertBudget(650, input, DummyArray.parser(Trim.parser(Word.parser(), " \t", " \t")));
+    }
+
+    @Test
+    void testSpecialCharAllocation() throws BaseParseError {
+        String input = "\\n\\t\\\"\\\\".repeat(1_000);
+        assertBudget(1_000, input, DummyArray.parser(SpecialChar.parser("nt\"\\")));
+    }
+}
@@ -0,0 +1,237 @@
+package com.vijie;
+
+import com.vijie.core.Root;
+import com.vijie.core.errors.BaseParseError;
+import com.vijie.core.interfaces.ICompositeToken;
+import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Any;
+import com.vijie.core.parsers.Factory;
+import com.vijie.core.tokens.StringLiteral;
+import com.vijie.core.tokens.Trim;
+import com.vijie.core.tokens.Word;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Parses families of inputs at doubling sizes and checks the empirical growth of the
+ * allocated bytes and of the parse time.
+ * <p>
+ * The growth exponent of a family is the slope of the least-squares fit of the logarithm
+ * of the cost against the logarithm of the size: 1 for a linear parse, 2 for a quadratic one.
+ * A family whose parse becomes an order costlier, such as a linear parse becoming quadratic,
+ * exceeds the thresholds.
+ * <p>
+ * The allocation is counted exactly and checked by the default test task. The parse time
+ * depends on the load of the machine: it is fitted for each of {@link #RUNS} series of
+ * parses and the median of the fits is checked, by the tests tagged {@code timing} only,
+ * which run with {@code ./gradlew timingTest}.
+ */
+public class TestComplexity {
+
+    /** The number of series of parses at every size. */
+    private static final int RUNS = 5;
+
+    /** The stack size of the thread running the parses. */
+    private static final long STACK_SIZE = 1L << 30;
+
+    /** The maximum growth exponent of a linear parse. */
+    private static final double MAX_TIME = 1.5;
+
+    /** The maximum growth exponent of the allocation of a linear parse. */
+    private static final double MAX_ALLOCATION = 1.2;
+
+    /**
+     * Creates the Root parsing an input.
+     */
+    @FunctionalInterface
+    private interface RootFactory {
+        Root<?> create(String input);
+    }
+
+    /**
+     * A family of inputs.
+     *
+     * @param name  the name of the family
+     * @param root  creates the Root of an input
+     * @param input generates the input of a given size
+     * @param sizes the sizes, in the units of the family
+     */
+    private record Family(String name, RootFactory root, IntFunction<String> input, int... sizes) {}
+
+    /**
+     * The cost of parsing a family of inputs at doubling sizes.
+     *
+     * @param sizes the sizes of the inputs
+     * @param nanos the parse times of each series, in nanoseconds
+     * @param bytes the bytes allocated by the parses, the least of the series
+     */
+    private record Growth(int[] sizes, long[][] nanos, long[] bytes) {
+
+        double timeExponent() {
+            double[] exponents = Arrays.stream(this.nanos).mapToDouble(series -> exponent(this.sizes, series)).sorted().toArray();
+            return exponents[exponents.length / 2];
+        }
+
+        double allocationExponent() {
+            return exponent(this.sizes, this.bytes);
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder("time ^%.2f (median), allocation ^%.2f".formatted(this.timeExponent(), this.allocationExponent()));
+            for (int i = 0; i < this.sizes.length; i++) {
+                int size = i;
+                long[] times = Arrays.stream(this.nanos).mapToLong(series -> series[size]).sorted().toArray();
+                builder.append("%n%10d: %10.3f ms %14d B".formatted(this.sizes[i], times[times.length / 2] / 1e6, this.bytes[i]));
+            }
+            return builder.toString();
+        }
+    }
+
+    private static final Family ARRAY = new Family("array",
+            input -> new RootParser<>(input, DummyStringArray.parser(StringLiteral.parser("ab"), 1, 0), false),
+            size -> "ab".repeat(size),
+            1_000, 2_000, 4_000, 8_000, 16_000);
+
+    private static final Family NESTING = new Family("nesting",
+            input -> new RootParser<>(input, DummyNested.parser(), false),
+            depth -> "(".repeat(depth) + ")".repeat(depth),
+            100, 200, 400, 800);
+
+    private static final Family UNION_BACKTRACKING = unionBacktracking();
+
+    private static final Family TRIMMED = new Family("trimmed",
+            input -> new RootParser<>(input, Trim.parser(Word.parser(), " ", " "), false),
+            size -> " ".repeat(size) + "word" + " ".repeat(size),
+            4_000, 8_000, 16_000, 32_000, 64_000);
+
+    private static final Family RECOVERY = new Family("recovery",
+            input -> new RootParser<>(input, DummyStringArray.parser(DummyLine.parser(), 1, 0), false),
+            size -> "key=123;key=#%&;".repeat(size),
+            250, 500, 1_000, 2_000, 4_000);
+
+    private static Family unionBacktracking() {
+
+        Factory<DummyStringChain<IToken<String>>> exclamation = DummyStringChain.parser(Word.parser(), StringLiteral.parser("!"));
+        Factory<DummyStringChain<IToken<String>>> question = DummyStringChain.parser(Word.parser(), StringLiteral.parser("?"));
+        Factory<DummyStringChain<IToken<String>>> semicolon = DummyStringChain.parser(Word.parser(), StringLiteral.parser(";"));
+        Factory<DummyStringChain<ICompositeToken<String>>> element = DummyStringChain.parser(Any.of(exclamation, question, semicolon));
+
+        return new Family("union backtracking",
+                input -> new RootParser<>(input, DummyStringArray.parser(element, 1, 0), false),
+                size -> "abcdefghijklmnop;".repeat(size),
+                250, 500, 1_000, 2_000, 4_000);
+    }
+
+    /**
+     * Returns the slope of the least-squares fit of {@code log(costs)} against {@code log(sizes)}.
+     */
+    private static double exponent(int[] sizes, long[] costs) {
+
+        int count = sizes.length;
+        double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+
+        for (int i = 0; i < count; i++) {
+            double x = Math.log(sizes[i]);
+            double y = Math.log(Math.max(costs[i], 1));
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+        }
+
+        return (count * sumXY - sumX * sumY) / (count * sumXX - sumX * sumX);
+    }
+
+    /**
+     * Parses the inputs of a family in {@link #RUNS} series over every size, after warm-up
+     * parses of the largest input.
+     * The parses run on a thread with a large stack, so that deeply nested inputs can be parsed.
+     *
+     * @param family the family of inputs
+     * @return the measured growth
+     */
+    private static Growth measure(Family family) throws Throwable {
+
+        int[] sizes = family.sizes();
+        String[] inputs = Arrays.stream(sizes).mapToObj(family.input()).toArray(String[]::new);
+        long[][] nanos = new long[RUNS][sizes.length];
+        long[] bytes = new long[sizes.length];
+        Arrays.fill(bytes, Long.MAX_VALUE);
+        Throwable[] thrown = new Throwable[1];
+
+        Thread thread = new Thread(null, () -> {
+            try {
+                for (int run = 0; run < RUNS; run++) family.root().create(inputs[inputs.length - 1]).parse();
+                for (int run = 0; run < RUNS; run++) {
+                    for (int i = 0; i < sizes.length; i++) {
+
+                        Root<?> parsed = family.root().create(inputs[i]);
+                        long allocated = Allocations.allocatedBytes();
+                        long start = System.nanoTime();
+
+                        parsed.parse();
+
+                        nanos[run][i] = System.nanoTime() - start;
+                        bytes[i] = Math.min(bytes[i], Allocations.allocatedBytes() - allocated);
+                    }
+                }
+            } catch (Throwable error) {
+                thrown[0] = error;
+            }
+        }, "complexity", STACK_SIZE);
+
+        thread.start();
+        thread.join();
+
+        if (thrown[0] != null) throw thrown[0];
+
+        return new Growth(sizes, nanos, bytes);
+    }
+
+    private static void assertAllocationGrowth(Family family) throws Throwable {
+        Growth growth = measure(family);
+        assertTrue(growth.allocationExponent() <= MAX_ALLOCATION, growth::toString);
+    }
+
+    @Test
+    void testArrayGrowth() throws Throwable {
+        assertAllocationGrowth(ARRAY);
+    }
+
+    @Test
+    void testNestingGrowth() throws Throwable {
+        assertAllocationGrowth(NESTING);
+    }
+
+    @Test
+    void testUnionBacktrackingGrowth() throws Throwable {
+        assertAllocationGrowth(UNION_BACKTRACKING);
+    }
+
+    @Test
+    void testTrimmedGrowth() throws Throwable {
+        assertAllocationGrowth(TRIMMED);
+    }
+
+    @Test
+    void testRecoveryGrowth() throws Throwable {
+        assertAllocationGrowth(RECOVERY);
+    }
+
+    @Test
+    @Tag("timing")
+    void testTimeGrowth() throws Throwable {
+
+        for (Family family : List.of(ARRAY, NESTING, UNION_BACKTRACKING, TRIMMED, RECOVERY)) {
+            Growth growth = measure(family);
+            assertTrue(growth.timeExponent() <= MAX_TIME, () -> "%s: %s".formatted(family.name(), growth));
+        }
+    }
+}
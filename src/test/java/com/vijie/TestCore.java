@@ -1,19 +1,50 @@
 package com.vijie;
 
 import com.vijie.core.symbols.Atom;
+import com.vijie.core.symbols.EOF;
+import com.sun.management.ThreadMXBean;
+import com.vijie.core.CharClass;
+import com.vijie.core.CompositeToken;
+import com.vijie.core.dummy.FailedToken;
+import com.vijie.core.Memo;
+import com.vijie.core.ParseResult;
+import com.vijie.core.Profiler;
+import com.vijie.core.sources.StreamSource;
 import com.vijie.core.Token;
+import com.vijie.core.Trie;
 import com.vijie.core.interfaces.ICompositeToken;
 import com.vijie.core.interfaces.INodeToken;
+import com.vijie.core.interfaces.IParser;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import com.vijie.core.Sequence;
 import com.vijie.core.errors.*;
 import com.vijie.core.interfaces.IToken;
+import com.vijie.core.parsers.Any;
+import com.vijie.core.parsers.AnyString;
 import com.vijie.core.parsers.Char;
+import com.vijie.core.parsers.Cut;
+import com.vijie.core.parsers.Dispatch;
 import com.vijie.core.parsers.Factory;
 import com.vijie.core.parsers.Optional;
+import com.vijie.core.parsers.Savior;
 import com.vijie.core.tokens.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -125,6 +156,153 @@ public class TestCore {
 
     }
 
+    @Test
+    void testContextViewIsolation() {
+        Sequence sequence = Sequence.fromString("ABCDEF");
+        IToken<?>[] content = sequence.getContent();
+
+        Sequence remainder = assertDoesNotThrow(sequence::copyRemainder);
+        Sequence copy = sequence.copy();
+
+        remainder.fusion(new Atom('X', 0));
+        remainder.next();
+        remainder.clearFrom();
+        copy.setPointer(2);
+        copy.fusion(new Atom('Y', 2));
+
+        assertArrayEquals(content, sequence.getContent());
+        assertEquals("X", remainder.getRaw());
+        assertEquals("ABYDEF", copy.getRaw());
+        assertEquals(7, copy.getSize());
+    }
+
+    @Test
+    void testCharSource() {
+
+        Sequence eager = Sequence.fromString("AB");
+        Sequence lazy = Sequence.fromChars("AB");
+
+        assertEquals(eager.getSize(), lazy.getSize());
+        assertEquals(eager.getRaw(), lazy.getRaw());
+        assertEquals('B', lazy.getChar(1));
+        assertEquals(-1, lazy.getChar(2));
+        assertSame(lazy.get(0), assertDoesNotThrow(lazy::copyRemainder).get(0));
+        assertEquals(EOF.class, lazy.get(2).getClass());
+    }
+
+    @Test
+    void testCharSourceAllocation() {
+
+        String input = "0123456789".repeat(10_000);
+
+        for (int warmup = 0; warmup < 3; warmup++) {
+            allocatedByParse(() -> Sequence.fromString(input));
+            allocatedByParse(() -> Sequence.fromChars(input));
+        }
+
+        // A full parse requests every Atom on both paths.
+        long eagerBytes = allocatedByParse(() -> Sequence.fromString(input));
+        long lazyBytes = allocatedByParse(() -> Sequence.fromChars(input));
+        assertTrue(lazyBytes * 10 < eagerBytes * 11, "full parse, fromChars: %d bytes, fromString: %d bytes".formatted(lazyBytes, eagerBytes));
+
+        // A parse that fails on the first character only requests the Atoms it reads.
+        String invalid = "x" + input;
+        eagerBytes = allocatedByParse(() -> Sequence.fromString(invalid));
+        lazyBytes = allocatedByParse(() -> Sequence.fromChars(invalid));
+        assertTrue(lazyBytes * 100 < eagerBytes, "failed parse, fromChars: %d bytes, fromString: %d bytes".formatted(lazyBytes, eagerBytes));
+    }
+
+    /**
+     * Measures the bytes allocated by the thread to create a sequence and parse numbers on it.
+     */
+    private static long allocatedByParse(Supplier<Sequence> sequence) {
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadAllocatedBytes();
+        try {
+            new RootParser<>(sequence.get(), Numeric.parser()).parse();
+        } catch (BaseParseError _) {
+        }
+        return threads.getCurrentThreadAllocatedBytes() - start;
+    }
+
+    @Test
+    void testMappedSource(@TempDir Path directory) throws IOException {
+
+        String input = "aé€😀\n".repeat(5_000);
+        Path file = directory.resolve("input.txt");
+        Files.writeString(file, input, StandardCharsets.UTF_8);
+
+        Sequence mapped = Sequence.fromPath(file, StandardCharsets.UTF_8);
+
+        assertEquals(input.length() + 1, mapped.getSize());
+        assertEquals(input, mapped.getRaw());
+        for (int i = 0; i < input.length(); i += 997) assertEquals(input.charAt(i), mapped.getChar(i));
+        assertEquals(input.charAt(input.length() - 1), mapped.getChar(input.length() - 1));
+        assertEquals(EOF.class, mapped.get(input.length()).getClass());
+        assertSame(mapped.get(10_000), mapped.get(10_000));
+    }
+
+    @Test
+    void testStreamSource() {
+
+        String input = "0123456789".repeat(10_000);
+        StreamSource source = new StreamSource(new StringReader(input + "!"));
+        RootParser<String, Numeric> root = new RootParser<>(Sequence.fromSource(source), Numeric.parser());
+
+        assertDoesNotThrow(root::parse);
+        assertEquals(input, root.getValue());
+        assertTrue(source.getWindowSize() < 4 * 8192, "window: %d chars".formatted(source.getWindowSize()));
+        assertThrows(IllegalStateException.class, () -> source.get(0));
+
+        Sequence sequence = Sequence.fromReader(new StringReader("AB"));
+        assertEquals('A', sequence.getCurrentChar());
+        assertEquals("AB", sequence.getRaw());
+        assertEquals(3, sequence.getSize());
+    }
+
+    @Test
+    void testStreamedChoices() {
+
+        // The first alternative reads the whole input before failing, so the next one starts
+        // from a position that the stream only keeps while the choice holds its mark.
+        String input = "a".repeat(20_000);
+        Factory<DummyStringChain<IToken<String>>> statement = DummyStringChain.parser(Word.parser(), StringLiteral.parser(";"));
+
+        List<IParser<? extends IToken<String>>> choices = List.of(
+                DummyOptionsChain.parser(statement, Word.parser()),
+                DummyStringUnion.parser(statement, Word.parser()),
+                Any.of(statement, Word.parser()),
+                DummyStringChain.parser(new Optional<>(statement), Word.parser())
+        );
+
+        for (IParser<? extends IToken<String>> choice : choices) {
+            for (Failures.Mode mode : Failures.Mode.values()) {
+                RootParser<String, ? extends IToken<String>> root = new RootParser<>(Sequence.fromReader(new StringReader(input)), choice);
+                root.setErrorMode(mode);
+                assertDoesNotThrow(root::parse, "%s in %s mode".formatted(choice, mode));
+                assertEquals(input, root.getValue());
+            }
+        }
+    }
+
+    @Test
+    void testSpanCache() {
+
+        Sequence sequence = Sequence.fromString("ABCDEF");
+
+        assertEquals(6, sequence.getLength());
+        assertEquals(0, sequence.getStartIndex());
+
+        sequence.slice(1, 4);
+        assertEquals(3, sequence.getLength());
+        assertEquals(1, sequence.getStartIndex());
+
+        RootParser<String, Numeric> root = new RootParser<>("123A", Numeric.parser());
+        assertDoesNotThrow(root::parse);
+        root.getSequence().clearFrom(1);
+        assertEquals(3, root.getSequence().getLength());
+    }
+
     @Test
     void testContextClear() {
         Token<?>[] content = Sequence.tokenize("ABCDEF");
@@ -224,6 +402,20 @@ public class TestCore {
         assertEquals("(?)@0", token.toString());
     }
 
+    @Test
+    void testDefinedCharSupplementary() {
+
+        Factory<DefinedChar> parser = DefinedChar.parser("\uD83D\uDE00");
+
+        RootParser<Character, DefinedChar> root = new RootParser<>("\uD83D\uDE00", parser);
+        assertDoesNotThrow(root::parse);
+        assertEquals('\uD83D', root.getValue());
+
+        RootParser<Object[], DummyArray<DefinedChar>> array = new RootParser<>("\uD83D\uDE00\uD83D\uDE00", DummyArray.parser(parser));
+        assertDoesNotThrow(array::parse);
+        assertEquals(4, array.getToken().getLength());
+    }
+
     @Test
     void testDefinedCharEof() {
 
@@ -269,7 +461,7 @@ public class TestCore {
 
         ExpectedGlyphError error = assertThrows(ExpectedGlyphError.class, root::parse);
 
-        assertEquals(sequence[0], error.getToken());
+        assertEquals(sequence[0], error.getToken(root.getSequence()));
     }
 
     @Test
@@ -347,6 +539,48 @@ public class TestCore {
 
     }
 
+    @Test
+    void testConstructorFactory() {
+
+        Factory<Word> parser = Factory.of(Word::new);
+        RootParser<String, Word> root = new RootParser<>("Hello", parser);
+
+        assertEquals(Word.class, parser.getType());
+        assertDoesNotThrow(root::parse);
+        assertEquals("Hello", root.getValue());
+
+        assertSame(CompositeToken.getConstructor(Digit.class), CompositeToken.getConstructor(Digit.class));
+        assertThrows(IllegalArgumentException.class, () -> Factory.<Word>of((parent, sequence) -> new Word(parent, sequence)));
+    }
+
+    @Test
+    void testCharClass() {
+
+        CharClass digits = CharClass.range('0', '9');
+        CharClass hex = digits.union(CharClass.of("abcdefABCDEF"));
+        CharClass emoji = CharClass.range(0x1F600, 0x1F64F);
+
+        assertTrue(hex.contains('a'));
+        assertFalse(hex.contains('g'));
+        assertEquals(digits, hex.intersection(CharClass.range('0', 'Z')).intersection(digits.union(CharClass.of("XYZ"))));
+        assertEquals("0123456789ABCDEFabcdef", hex.toString());
+
+        assertFalse(digits.negate().contains('5'));
+        assertTrue(digits.negate().contains(0x10FFFF));
+        assertEquals(digits, digits.negate().negate());
+        assertEquals(CharClass.ALL.getSize() - 10, digits.negate().getSize());
+
+        assertTrue(emoji.union(digits).contains(0x1F601));
+        assertFalse(emoji.negate().contains(0x1F601));
+        assertTrue(emoji.intersection(CharClass.range(0x1F640, 0x1F700)).contains(0x1F64F));
+        assertTrue(CharClass.EMPTY.intersection(hex).isEmpty());
+
+        RootParser<Character, DefinedChar> root = new RootParser<>("x", DefinedChar.parser(CharClass.of("xyz")));
+        assertDoesNotThrow(root::parse);
+        assertEquals('x', root.getValue());
+        assertEquals("xyz", root.getToken().getWhitelist());
+    }
+
     @Test
     void testDigit() {
 
@@ -394,6 +628,34 @@ public class TestCore {
 
     }
 
+    @Test
+    void testCharRun() {
+
+        RootParser<String, Word> root = new RootParser<>("Hello world", Word.parser());
+
+        assertDoesNotThrow(root::parse);
+
+        Word word = root.getToken();
+        assertTrue(word.isCompact());
+        assertEquals("Hello", word.getValue());
+        assertArrayEquals(new Character[]{'H', 'e', 'l', 'l', 'o'}, word.getValues());
+        assertTrue(word.isCompact());
+
+        IToken<?>[] letters = word.getContent();
+        assertFalse(word.isCompact());
+        assertEquals(5, letters.length);
+        assertInstanceOf(Letter.class, letters[3]);
+        assertEquals('l', letters[3].getValue());
+        assertEquals(3, letters[3].getIndex());
+        assertSame(word, ((Letter) letters[3]).getParent());
+        assertEquals("Hello", word.getValue());
+        assertEquals(5, word.getLength());
+
+        RootParser<String, HexNumeric> hex = new RootParser<>("0fAg", HexNumeric.parser());
+        assertDoesNotThrow(hex::parse);
+        assertEquals("0fA", hex.getValue());
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void testUnion() {
@@ -443,6 +705,204 @@ public class TestCore {
 
     }
 
+    @Test
+    void testLiteralMismatch() {
+
+        Factory<StringLiteral> parser = StringLiteral.parser("foo");
+        Sequence sequence = Sequence.fromString("fax");
+
+        ParserError error = assertThrows(ParserError.class, () -> sequence.parse(null, parser));
+        LiteralDoesNotMatch cause = assertInstanceOf(LiteralDoesNotMatch.class, error.getCause());
+        assertEquals("fax", cause.getValue());
+        assertEquals(4, sequence.getSize());
+
+        RootParser<String, StringLiteral> root = new RootParser<>("foo!", parser);
+        assertDoesNotThrow(root::parse);
+        assertSame(root.getToken(), ((Atom) root.getToken().getContent()[2]).getParent());
+    }
+
+    @Test
+    void testMatch() throws BaseParseError {
+
+        Factory<StringLiteral> parser = StringLiteral.parser("foo");
+        Sequence sequence = Sequence.fromString("fax");
+
+        assertSame(ParseResult.failure(), sequence.match(null, parser));
+        assertTrue(sequence.match(null, new Optional<>(parser)).isAbsent());
+        assertEquals(4, sequence.getSize());
+
+        ParseResult<StringLiteral> result = Sequence.fromString("foo!").match(null, parser);
+        assertTrue(result.isSuccess());
+        assertEquals("foo", result.getToken().getValue());
+
+        IParser<Word> adapted = new IParser<>() {
+            @Override
+            public Class<? extends Word> getType() {
+                return Word.class;
+            }
+
+            @Override
+            public Word parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+                return Word.parser().parse(parent, sequence);
+            }
+        };
+
+        assertTrue(adapted.match(null, Sequence.fromString("123")).isFailure());
+        assertTrue(Sequence.fromString("abc").match(null, adapted).isSuccess());
+
+        RootParser<String, DummyStringChain<StringLiteral>> root = new RootParser<>("ABD",
+                DummyStringChain.parser(StringLiteral.parser("AB"), StringLiteral.parser("C")), false);
+        assertThrows(BaseParseError.class, root::parse);
+    }
+
+    @Test
+    void testLazyError() {
+
+        int[] calls = {0};
+        IParser<Word> parser = new IParser<>() {
+            @Override
+            public Class<? extends Word> getType() {
+                return Word.class;
+            }
+
+            @Override
+            public Word parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+                return Word.parser().parse(parent, sequence);
+            }
+
+            @Override
+            public String toString() {
+                calls[0]++;
+                return "counted";
+            }
+        };
+
+        Sequence sequence = Sequence.fromString("123");
+        ParserError inner = new ParserError(sequence, new UndersizedArrayError(sequence), parser);
+        ParserError outer = new ParserError(sequence, inner, parser);
+
+        assertEquals(0, calls[0]);
+        assertEquals(0, outer.getStackTrace().length);
+        assertEquals(1, outer.getDepth());
+        assertEquals(1, inner.getDepth());
+        assertEquals(0, inner.getCause().getDepth());
+
+        assertEquals("Could not parse 'counted'", outer.getMessage());
+        assertEquals("Could not parse 'counted'", outer.getMessage());
+        assertEquals(1, calls[0]);
+
+        // The inner error is wrapped a second time, one level deeper.
+        ParserError deeper = new ParserError(sequence, new ParserError(sequence, inner, parser), parser);
+
+        assertEquals(List.of(0, 1, 2), indents(outer.getTraceback()));
+        assertEquals(List.of(0, 1, 2, 3), indents(deeper.getTraceback()));
+        assertEquals(List.of(0, 1, 2), indents(outer.getTraceback()));
+    }
+
+    private static List<Integer> indents(String traceback) {
+        return traceback.lines().map(line -> line.length() - line.stripLeading().length()).toList();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFarthestFailure() {
+
+        Factory<DummyStringChain<StringLiteral>> ab = DummyStringChain.parser(StringLiteral.parser("a"), StringLiteral.parser("b"));
+        Factory<DummyStringChain<StringLiteral>> ac = DummyStringChain.parser(StringLiteral.parser("a"), StringLiteral.parser("c"));
+        Any<ICompositeToken<String>> any = Any.of(ab, ac, StringLiteral.parser("z"));
+
+        RootParser<String, ICompositeToken<String>> root = new RootParser<>("ax", any, false);
+        root.setErrorMode(Failures.Mode.FARTHEST);
+
+        AnyParserError error = assertThrows(AnyParserError.class, root::parse);
+        assertEquals(0, error.getErrors().length);
+        assertEquals(1, error.getFailures().getIndex());
+        assertEquals(java.util.List.of(StringLiteral.parser("b"), StringLiteral.parser("c")), error.getFailures().getExpected());
+        assertTrue(error.getTraceback().contains("Expected"));
+
+        RootParser<String, ICompositeToken<String>> debug = new RootParser<>("ax", any, false);
+        assertEquals(Failures.Mode.TREE, debug.getErrorMode());
+
+        AnyParserError tree = assertThrows(AnyParserError.class, debug::parse);
+        assertEquals(2, tree.getErrors().length);
+        assertEquals(1, tree.getFailures().getIndex());
+    }
+
+    @Test
+    void testSinglePassFailure() {
+
+        int depth = 160;
+        String input = "(".repeat(depth) + "x";
+
+        for (Failures.Mode mode : Failures.Mode.values()) {
+
+            RootParser<String, DummyParen> root = new RootParser<>(input, DummyParen.parser(), false);
+            root.setErrorMode(mode);
+            DummyParen.constructions = 0;
+
+            assertThrows(GenericParseError.class, root::parse);
+            assertTrue(DummyParen.constructions <= depth + 1, mode + ": " + DummyParen.constructions);
+        }
+    }
+
+    @Test
+    void testErrorSnapshot() {
+
+        Factory<DummyStringChain<StringLiteral>> parser = DummyStringChain.parser(StringLiteral.parser("a"), StringLiteral.parser("b"));
+        Sequence sequence = Sequence.fromString("ax");
+
+        ParserError error = assertThrows(ParserError.class, () -> sequence.parse(null, parser));
+        GenericParseError origin = error.getOrigin();
+
+        assertInstanceOf(LiteralDoesNotMatch.class, origin);
+        assertEquals(1, origin.getStartIndex());
+        assertEquals(1, origin.getIndex());
+        assertFalse(origin.isEof());
+        assertEquals('x', origin.getSequence(sequence).getCurrent().getValue());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testCut() {
+
+        Factory<DummyStringChain<StringLiteral>> plain = DummyStringChain.parser(StringLiteral.parser("if"), StringLiteral.parser("("));
+        Factory<DummyStringChain<StringLiteral>> committed = DummyStringChain.parser(Cut.of(StringLiteral.parser("if")), StringLiteral.parser("("));
+
+        RootParser<String, ICompositeToken<String>> root = new RootParser<>("if x", Any.of(plain, Word.parser()));
+        assertDoesNotThrow(root::parse);
+        assertEquals("if", root.getValue());
+
+        RootParser<String, ICompositeToken<String>> cut = new RootParser<>("if x", Any.of(committed, Word.parser()), false);
+        cut.enableMemo();
+        ParserError error = assertThrows(ParserError.class, cut::parse);
+        assertInstanceOf(LiteralDoesNotMatch.class, error.getOrigin());
+        assertEquals(2, error.getOrigin().getIndex());
+
+        RootParser<String, ICompositeToken<String>> other = new RootParser<>("x", Any.of(committed, Word.parser()));
+        assertDoesNotThrow(other::parse);
+        assertEquals("x", other.getValue());
+
+        Factory<DummyStringChain<StringLiteral>> inner = DummyStringChain.parser(Cut.of(StringLiteral.parser("x")), StringLiteral.parser("y"));
+        Factory<DummyStringChain<IToken<String>>> outer = DummyStringChain.parser(inner, StringLiteral.parser("!"));
+
+        RootParser<String, ICompositeToken<String>> spent = new RootParser<>("xyz", Any.of(outer, Word.parser()));
+        assertDoesNotThrow(spent::parse);
+        assertEquals("xyz", spent.getValue());
+
+        // A memoized failure that passed a commit point still commits the choice attempting it.
+        Factory<DummyStringChain<StringLiteral>> item = DummyStringChain.parser(Cut.of(StringLiteral.parser("a")), StringLiteral.parser("b"));
+        Any<ICompositeToken<String>> grammar = Any.of(
+                DummyStringChain.parser(DummyStringArray.parser(item, 1, 0), StringLiteral.parser("!")),
+                DummyStringChain.parser(StringLiteral.parser("ab"), Any.of(item, Word.parser()), StringLiteral.parser("?")));
+
+        for (boolean memo : new boolean[]{false, true}) {
+            RootParser<String, ICompositeToken<String>> replayed = new RootParser<>("aba?", grammar, false);
+            replayed.setErrorMode(Failures.Mode.FARTHEST);
+            if (memo) replayed.enableMemo();
+            assertThrows(BaseParseError.class, replayed::parse, memo ? "with memo" : "without memo");
+        }
+    }
+
     @Test
     void testEmptyLiteral() {
 
@@ -470,6 +930,34 @@ public class TestCore {
 
     }
 
+    @Test
+    void testTrie() {
+
+        String[] members = {"<", "<=", "<<=", "="};
+        Trie trie = Trie.of(members);
+        Sequence sequence = Sequence.fromString("<<=");
+
+        assertEquals(0, trie.match(sequence, Trie.Match.FIRST));
+        assertEquals(2, trie.match(sequence, Trie.Match.LONGEST));
+        assertEquals(-1, trie.match(Sequence.fromString("!"), Trie.Match.LONGEST));
+        assertEquals(CharClass.of("<="), trie.getFirst());
+        assertSame(trie, Trie.of(members));
+        assertNotSame(trie, Trie.of(members.clone()));
+
+        RootParser<String, StringLiteral> first = new RootParser<>("<=", new AnyString("<", "<="));
+        RootParser<String, StringLiteral> longest = new RootParser<>("<=", new AnyString(Trie.Match.LONGEST, "<", "<="));
+
+        assertDoesNotThrow(first::parse);
+        assertDoesNotThrow(longest::parse);
+        assertEquals("<", first.getValue());
+        assertEquals("<=", longest.getValue());
+        assertEquals(2, longest.getToken().getLength());
+
+        RootParser<String, DummyStringEnum> root = new RootParser<>("bar", DummyStringEnum.parser("ba", "bar"));
+        assertDoesNotThrow(root::parse);
+        assertEquals("ba", root.getValue());
+    }
+
     @Test
     void TestStringEnumError() {
 
@@ -758,6 +1246,213 @@ public class TestCore {
 
     }
 
+    @Test
+    void testAnyParsesOnce() {
+
+        int[] calls = {0};
+        Factory<StringLiteral> literal = StringLiteral.parser("AB");
+        IParser<StringLiteral> counter = new IParser<>() {
+            @Override
+            public Class<? extends StringLiteral> getType() {
+                return literal.getType();
+            }
+
+            @Override
+            public StringLiteral parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+                calls[0]++;
+                return literal.parse(parent, sequence);
+            }
+        };
+
+        RootParser<String, StringLiteral> root = new RootParser<>("AB", Any.of(StringLiteral.parser("C"), counter));
+
+        assertDoesNotThrow(root::parse);
+
+        assertEquals("AB", root.getValue());
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testFirstPrediction() {
+
+        assertEquals(Letter.LETTERS, Letter.parser().getFirst());
+        assertEquals(Digit.DIGITS, Numeric.parser().getFirst());
+        assertEquals(CharClass.of("ab"), DummyStringEnum.parser("abc", "bcd").getFirst());
+        assertEquals(CharClass.of(" A"), LeftTrim.parser(StringLiteral.parser("A"), " ").getFirst());
+        assertEquals(CharClass.ALL, Any.of(Word.parser(), new Savior<>(Word.parser())).getFirst());
+
+        int[] calls = {0};
+        IParser<Word> counter = new IParser<>() {
+            @Override
+            public Class<? extends Word> getType() {
+                return Word.class;
+            }
+
+            @Override
+            public CharClass getFirst() {
+                return Letter.LETTERS;
+            }
+
+            @Override
+            public Word parse(ICompositeToken<?> parent, Sequence sequence) throws BaseParseError {
+                calls[0]++;
+                return Word.parser().parse(parent, sequence);
+            }
+        };
+
+        Any<ICompositeToken<String>> any = Any.of(counter, Numeric.parser());
+        RootParser<String, ICompositeToken<String>> root = new RootParser<>("123", any);
+
+        assertDoesNotThrow(root::parse);
+        assertEquals("123", root.getValue());
+        assertEquals(0, calls[0]);
+
+        RootParser<String, ICompositeToken<String>> eof = new RootParser<>("", any, false);
+        assertThrows(BaseParseError.class, eof::parse);
+        // Once, to collect the error.
+        assertEquals(1, calls[0]);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testNullablePrediction() {
+
+        IParser<StringLiteral> maybe = Cut.of(new Optional<>(StringLiteral.parser("a")));
+        assertTrue(maybe.isNullable());
+        assertFalse(StringLiteral.parser("a").isNullable());
+
+        Factory<DummyStringChain<StringLiteral>> chain = DummyStringChain.parser(maybe, StringLiteral.parser("b"));
+        assertEquals(CharClass.of("ab"), chain.getFirst());
+        assertFalse(chain.isNullable());
+
+        RootParser<Object[], DummyArray<DummyStringChain<StringLiteral>>> root = new RootParser<>("bab", DummyArray.parser(chain));
+        assertDoesNotThrow(root::parse);
+        assertEquals(3, root.getToken().getLength());
+
+        IParser<StringLiteral>[] targets = new IParser[]{maybe, StringLiteral.parser("c")};
+        assertSame(Dispatch.of(targets), Dispatch.of(targets));
+        assertNotSame(Dispatch.of(targets), Dispatch.of(targets.clone()));
+        assertArrayEquals(new IParser[]{maybe}, Dispatch.of(targets).getCandidates('x'));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testMemo() {
+
+        Factory<DummyStringChain<StringLiteral>> chain1 = DummyStringChain.parser(StringLiteral.parser("AB"), StringLiteral.parser("C"));
+        Factory<DummyStringChain<StringLiteral>> chain2 = DummyStringChain.parser(StringLiteral.parser("AB"), StringLiteral.parser("D"));
+
+        RootParser<String, DummyStringChain<StringLiteral>> root = new RootParser<>("ABD", Any.of(chain1, chain2));
+        Memo memo = root.enableMemo();
+
+        assertDoesNotThrow(root::parse);
+
+        assertEquals("ABD", root.getValue());
+        assertSame(memo, root.getMemo());
+        assertTrue(memo.getHits() > 0);
+        assertEquals(StringLiteral.parser("AB"), StringLiteral.parser("AB"));
+
+        root.disableMemo();
+        assertNull(root.getMemo());
+
+        Memo released = new Memo();
+        for (int index = 0; index < 4; index++) released.putSuccess(Word.parser(), index, new Atom('A', index));
+        released.putFailure(Numeric.parser(), 1, false, false);
+
+        released.releaseBefore(2);
+        assertEquals(2, released.getSize());
+        assertNull(released.get(Numeric.parser(), 1));
+        assertNotNull(released.get(Word.parser(), 2));
+
+        released.releaseBefore(1);
+        assertEquals(2, released.getSize());
+        released.releaseBefore(10);
+        assertEquals(0, released.getSize());
+    }
+
+    @Test
+    void testProfiler() {
+
+        Factory<DummyStringChain<StringLiteral>> chain1 = DummyStringChain.parser(StringLiteral.parser("AB"), StringLiteral.parser("C"));
+        Factory<DummyStringChain<StringLiteral>> chain2 = DummyStringChain.parser(StringLiteral.parser("AB"), StringLiteral.parser("D"));
+
+        RootParser<String, DummyStringChain<StringLiteral>> root = new RootParser<>("ABD", Any.of(chain1, chain2));
+        Profiler profiler = root.enableProfiler();
+
+        assertDoesNotThrow(root::parse);
+        assertEquals("ABD", root.getValue());
+        assertSame(profiler, root.getProfiler());
+
+        Profiler.Stats failed = profiler.getParsers().get(chain1);
+        assertEquals(1, failed.getAttempts());
+        assertEquals(0, failed.getSuccesses());
+        assertEquals(1, failed.getFailureCount());
+
+        Profiler.Stats parsed = profiler.getParsers().get(chain2);
+        assertEquals(1, parsed.getSuccesses());
+        assertEquals(3, parsed.getChars());
+        assertTrue(parsed.getCopies() > 0);
+        assertTrue(parsed.getInclusiveNanos() >= parsed.getExclusiveNanos());
+
+        Profiler.Stats literal = profiler.getParsers().get(StringLiteral.parser("AB"));
+        assertEquals(2, literal.getAttempts());
+        assertEquals(4, literal.getChars());
+
+        Profiler.Stats chains = profiler.getTypes().get(DummyStringChain.class);
+        assertEquals(2, chains.getAttempts());
+        assertEquals(1, chains.getSuccesses());
+        assertEquals(1, chains.getFailureCount());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        root.dumpProfile(new PrintStream(out));
+        assertTrue(out.toString().startsWith("Parser"));
+        assertTrue(out.toString().contains("DummyStringChain"));
+
+        root.disableProfiler();
+        assertNull(root.getProfiler());
+        assertThrows(IllegalStateException.class, () -> root.dumpProfile(System.out));
+    }
+
+    @Test
+    void testFlightRecorder(@TempDir Path directory) throws IOException {
+
+        RootParser<Object[], DummyArray<DummyLine>> root = new RootParser<>("a=1;b=#;c=3;", DummyArray.parser(DummyLine.parser()), false);
+        root.enableMemo();
+
+        Path file = directory.resolve("parse.jfr");
+
+        try (Recording recording = new Recording()) {
+            recording.enable("com.vijie.RootParse");
+            recording.enable("com.vijie.TokenParse").withThreshold(Duration.ZERO);
+            recording.enable("com.vijie.Recovery");
+            recording.enable("com.vijie.MemoLookup");
+            recording.start();
+            assertDoesNotThrow(root::parse);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        RecordedEvent parse = events.stream().filter(event -> event.getEventType().getName().equals("com.vijie.RootParse")).findFirst().orElseThrow();
+        assertEquals(RootParser.class.getName(), parse.getString("rootClass"));
+        assertEquals(12, parse.getInt("length"));
+        assertNull(parse.getString("errorType"));
+
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.vijie.TokenParse")
+                && event.getString("tokenClass").equals(DummyLine.class.getName())
+                && event.getInt("startOffset") == 4));
+
+        RecordedEvent recovery = events.stream().filter(event -> event.getEventType().getName().equals("com.vijie.Recovery")).findFirst().orElseThrow();
+        assertEquals(FailedToken.class.getName(), recovery.getString("tokenClass"));
+        assertEquals(4, recovery.getInt("startOffset"));
+        assertEquals(3, recovery.getInt("spanLength"));
+        assertTrue(recovery.getBoolean("recovered"));
+
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("com.vijie.MemoLookup") && !event.getBoolean("hit")));
+    }
+
     @Test
     void testFindFromIndex() {
 
@@ -778,6 +1473,11 @@ public class TestCore {
         assertEquals("ABC", root.getSequence().getSymbol(0).getParent().getValue());
         assertEquals("DEF", root.getSequence().getSymbol(5).getParent().getValue());
 
+        assertThrows(IndexOutOfRange.class, () -> root.getSequence().getSymbol(-1));
+        assertThrows(IndexOutOfRange.class, () -> root.getSequence().getSymbol(6));
+
+        for (int i = 0; i < 6; i++) assertEquals("ABCDEF".charAt(i), root.getSequence().getSymbol(i).getValue());
+
 
 
     }